@@ -0,0 +1,63 @@
+package com.horrorgame.fx.logic;
+
+import com.horrorgame.game.RoomMediaLibrary;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The per-anomaly-tick work of {@link AnomalyManager} with half of the rooms holding an anomaly.
+ * Anomalies never expire here (the delay is effectively infinite) and every spawn is cleared again,
+ * so occupancy stays constant across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnomalyManagerBenchmark {
+
+    private static final int NEVER_EXPIRES = Integer.MAX_VALUE;
+
+    @Param({"6", "100", "1000", "10000"})
+    public int rooms;
+
+    private AnomalyManager anomalyManager;
+    private int currentRoomIndex;
+
+    @Setup
+    public void setUp() {
+        RoomMediaLibrary library = DifficultyTuner.syntheticLibrary(rooms);
+        List<String> roomKeys = library.getRoomKeys();
+        anomalyManager = new AnomalyManager(library, roomKeys, new Random(42));
+        for (int i = 0; i < rooms / 2; i++) {
+            anomalyManager.spawnAnomalyExcludingCurrent(currentRoomIndex);
+        }
+    }
+
+    @Benchmark
+    public int tickExistingAnomalies() {
+        return anomalyManager.tickExistingAnomalies(NEVER_EXPIRES, currentRoomIndex);
+    }
+
+    @Benchmark
+    public int spawnAnomalyExcludingCurrent() {
+        int roomIndex = anomalyManager.spawnAnomalyExcludingCurrent(currentRoomIndex);
+        if (roomIndex >= 0) {
+            anomalyManager.clearAnomaly(roomIndex);
+        }
+        return roomIndex;
+    }
+}
@@ -0,0 +1,39 @@
+package com.horrorgame.fx.logic;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text and styling produced for the HUD on every threat change and camera switch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudFormattingBenchmark {
+
+    private static final String[] ROOM_KEYS = {"living_room", "KITCHEN", "master__bedroom", "cam12", "back_yard_gate"};
+
+    private final ThreatManager threatManager = new ThreatManager();
+    private int cursor;
+
+    @Benchmark
+    public ThreatManager.ThreatViewModel threatToViewModel() {
+        return threatManager.toViewModel((cursor++ & Integer.MAX_VALUE) % (ThreatManager.MAX + 1));
+    }
+
+    @Benchmark
+    public String prettifyRoomKey() {
+        return GameController.prettifyRoomKey(ROOM_KEYS[(cursor++ & Integer.MAX_VALUE) % ROOM_KEYS.length]);
+    }
+}
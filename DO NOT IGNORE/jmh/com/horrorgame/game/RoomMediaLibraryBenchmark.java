@@ -0,0 +1,69 @@
+package com.horrorgame.game;
+
+import com.horrorgame.fx.logic.DifficultyTuner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Media lookups done on every camera switch and anomaly spawn, and building the library
+ * from synthetic room sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomMediaLibraryBenchmark {
+
+    @Param({"6", "100", "1000", "10000"})
+    public int rooms;
+
+    private List<String> resources;
+    private RoomMediaLibrary library;
+    private String[] roomKeys;
+    private RoomMediaLibrary.AnomalyType[] types;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        resources = DifficultyTuner.syntheticResources(rooms);
+        library = RoomMediaLibrary.fromResources(resources);
+        roomKeys = library.getRoomKeys().toArray(new String[0]);
+        types = RoomMediaLibrary.AnomalyType.values();
+    }
+
+    @Benchmark
+    public RoomMediaLibrary fromResources() {
+        return RoomMediaLibrary.fromResources(resources);
+    }
+
+    @Benchmark
+    public String getRandomAnomaly() {
+        int i = cursor++ & Integer.MAX_VALUE;
+        return library.getRandomAnomaly(roomKeys[i % roomKeys.length], types[i % types.length]);
+    }
+
+    @Benchmark
+    public String getRandomAnomalyById() {
+        int i = cursor++ & Integer.MAX_VALUE;
+        return library.getRandomAnomaly(i % rooms, types[i % types.length]);
+    }
+
+    @Benchmark
+    public List<RoomMediaLibrary.AnomalyType> getAvailableAnomalyTypes() {
+        int i = cursor++ & Integer.MAX_VALUE;
+        return library.getAvailableAnomalyTypes(roomKeys[i % roomKeys.length]);
+    }
+}
@@ -0,0 +1,26 @@
+package com.horrorgame.game;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup cost of {@link RoomMediaLibrary#load(Class)} against the packaged rooms tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomMediaLoadBenchmark {
+
+    @Benchmark
+    public RoomMediaLibrary loadPackaged() {
+        return RoomMediaLibrary.load(RoomMediaLibrary.class);
+    }
+}
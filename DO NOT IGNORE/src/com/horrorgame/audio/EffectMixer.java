@@ -0,0 +1,141 @@
+package com.horrorgame.audio;
+
+import java.util.Arrays;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Software mixer for one-shot effects of one PCM format, playing through a single long-lived
+ * {@link SourceDataLine} fed by its own daemon thread.
+ * Up to {@link #MAX_VOICES} effects overlap; beyond that the oldest voice is cut to make room.
+ * Starting a voice only fills a slot, so playing an effect allocates nothing. Latency is bounded by
+ * the line buffer.
+ */
+final class EffectMixer implements Runnable {
+
+    static final int MAX_VOICES = 8;
+
+    private static final int CHUNK_FRAMES = 256;
+    private static final int LINE_BUFFER_FRAMES = 2048;
+
+    private final SourceDataLine line;
+    private final byte[][] voiceData = new byte[MAX_VOICES][];
+    private final int[] voicePositions = new int[MAX_VOICES];
+    private final long[] voiceStarts = new long[MAX_VOICES];
+    private final int[] accumulator;
+    private final byte[] output;
+    private final Thread thread;
+    private int activeVoices;
+    private long playCount;
+    private boolean closed;
+
+    private EffectMixer(SourceDataLine line, AudioFormat format) {
+        this.line = line;
+        int chunkSamples = CHUNK_FRAMES * format.getChannels();
+        this.accumulator = new int[chunkSamples];
+        this.output = new byte[chunkSamples * 2];
+        this.thread = new Thread(this, "sfx-mixer");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Opens an output line for 16-bit signed little-endian PCM in the given format and starts mixing.
+     */
+    static EffectMixer open(AudioFormat format) throws LineUnavailableException {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+        } catch (IllegalArgumentException e) {
+            throw new LineUnavailableException(e.getMessage());
+        }
+        line.open(format, LINE_BUFFER_FRAMES * format.getFrameSize());
+        line.start();
+        EffectMixer mixer = new EffectMixer(line, format);
+        mixer.thread.start();
+        return mixer;
+    }
+
+    /**
+     * Starts the effect on a free voice, or on the oldest one if all are busy.
+     */
+    synchronized void play(byte[] pcm) {
+        if (closed) {
+            return;
+        }
+        int target = -1;
+        for (int voice = 0; voice < MAX_VOICES; voice++) {
+            if (voiceData[voice] == null) {
+                target = voice;
+                break;
+            }
+            if (target < 0 || voiceStarts[voice] < voiceStarts[target]) {
+                target = voice;
+            }
+        }
+        if (voiceData[target] == null) {
+            activeVoices++;
+        }
+        voiceData[target] = pcm;
+        voicePositions[target] = 0;
+        voiceStarts[target] = playCount++;
+        notifyAll();
+    }
+
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                synchronized (this) {
+                    while (activeVoices == 0 && !closed) {
+                        wait();
+                    }
+                    if (closed) {
+                        break;
+                    }
+                    mixChunk();
+                }
+                // Blocks while the line buffer is full, which paces the loop to real time.
+                line.write(output, 0, output.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            line.stop();
+            line.close();
+        }
+    }
+
+    private void mixChunk() {
+        Arrays.fill(accumulator, 0);
+        for (int voice = 0; voice < MAX_VOICES; voice++) {
+            byte[] data = voiceData[voice];
+            if (data == null) {
+                continue;
+            }
+            int position = voicePositions[voice];
+            int length = Math.min(output.length, data.length - position) & ~1;
+            for (int i = 0; i < length; i += 2) {
+                accumulator[i >> 1] += (short) ((data[position + i + 1] << 8) | (data[position + i] & 0xFF));
+            }
+            position += length;
+            if (position >= data.length - 1) {
+                voiceData[voice] = null;
+                activeVoices--;
+            } else {
+                voicePositions[voice] = position;
+            }
+        }
+        for (int i = 0; i < accumulator.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, accumulator[i]));
+            output[2 * i] = (byte) sample;
+            output[2 * i + 1] = (byte) (sample >> 8);
+        }
+    }
+}
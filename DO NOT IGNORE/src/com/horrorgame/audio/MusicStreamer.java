@@ -0,0 +1,393 @@
+package com.horrorgame.audio;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.Line;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Background music that is streamed instead of loaded into a {@link Clip}.
+ * A dedicated daemon thread decodes the current track in small fixed chunks into a
+ * {@link SourceDataLine}, reopening the resource at its end without gaps. Changing tracks crossfades
+ * when both share a format and fades out then in otherwise. Callers only post the wanted track,
+ * so they never block on decoding, and memory does not grow with track length.
+ */
+final class MusicStreamer implements Runnable {
+
+    private static final int CHUNK_FRAMES = 1024;
+    private static final int LINE_BUFFER_MILLIS = 250;
+    private static final int CROSSFADE_MILLIS = 600;
+    private static final float GAIN_BOOST_DB = 4.0f;
+
+    private final Object lock = new Object();
+    private String requestedPath;
+    private long requestVersion;
+    private boolean closed;
+
+    // Everything below is only touched by the streaming thread.
+    private long handledVersion;
+    private SourceDataLine line;
+    private Track current;
+    // Replaced tracks, mixed until their fade-out ends.
+    private final List<Track> fadingOut = new ArrayList<>();
+    // Next track when its format needs a new line, started once the fade-outs are done.
+    private Track pending;
+    private Clip fallbackClip;
+    private String fallbackPath;
+    private byte[] readBuffer = new byte[0];
+    private int[] mixBuffer = new int[0];
+    private byte[] outputBuffer = new byte[0];
+
+    MusicStreamer() {
+        Thread thread = new Thread(this, "music-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Switches to the given track (looping forever), or fades to silence for null.
+     */
+    void play(String resourcePath) {
+        synchronized (lock) {
+            requestedPath = resourcePath;
+            requestVersion++;
+            lock.notifyAll();
+        }
+    }
+
+    void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                String wanted;
+                boolean changed;
+                synchronized (lock) {
+                    while (!closed && requestVersion == handledVersion && !isStreaming()) {
+                        lock.wait();
+                    }
+                    if (closed) {
+                        break;
+                    }
+                    changed = requestVersion != handledVersion;
+                    handledVersion = requestVersion;
+                    wanted = requestedPath;
+                }
+                if (changed) {
+                    applyRequest(wanted);
+                }
+                if (isStreaming()) {
+                    streamChunk();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeTrack(current);
+            for (Track track : fadingOut) {
+                closeTrack(track);
+            }
+            closeTrack(pending);
+            stopFallbackClip();
+            closeLine();
+        }
+    }
+
+    private boolean isStreaming() {
+        return current != null || !fadingOut.isEmpty();
+    }
+
+    private void applyRequest(String wanted) {
+        if (pending != null) {
+            if (equalsPath(wanted, pending.path)) {
+                return;
+            }
+            closeTrack(pending);
+            pending = null;
+        }
+        String playing = current != null ? current.path : fallbackPath;
+        if (equalsPath(wanted, playing)) {
+            return;
+        }
+        stopFallbackClip();
+        if (current != null) {
+            current.fadeTo(0f, fadeFrames(current.format));
+            fadingOut.add(current);
+            current = null;
+        }
+        if (wanted == null) {
+            return;
+        }
+
+        Track next = Track.open(wanted);
+        if (next == null) {
+            return;
+        }
+        if (fadingOut.isEmpty()) {
+            startOnLine(next);
+        } else if (next.format.matches(line.getFormat())) {
+            // Same format: fade in on the open line while the old tracks fade out.
+            current = next;
+            current.gain = 0f;
+            current.fadeTo(1f, fadeFrames(current.format));
+        } else {
+            // Different format: let the old tracks fade out, then reopen the line for this one.
+            pending = next;
+        }
+    }
+
+    private void startOnLine(Track track) {
+        if (line == null || !track.format.matches(line.getFormat())) {
+            closeLine();
+            try {
+                line = AudioSystem.getSourceDataLine(track.format);
+                int bufferFrames = (int) (track.format.getFrameRate() * LINE_BUFFER_MILLIS / 1000f);
+                line.open(track.format, bufferFrames * track.format.getFrameSize());
+                boostGain(line);
+                line.start();
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                line = null;
+                String path = track.path;
+                closeTrack(track);
+                startFallbackClip(path);
+                return;
+            }
+        }
+        current = track;
+        current.gain = 0f;
+        current.fadeTo(1f, fadeFrames(track.format));
+    }
+
+    private void streamChunk() {
+        AudioFormat format = line.getFormat();
+        int bytes = CHUNK_FRAMES * format.getFrameSize();
+        int samples = bytes / 2;
+        if (readBuffer.length != bytes) {
+            readBuffer = new byte[bytes];
+            mixBuffer = new int[samples];
+            outputBuffer = new byte[bytes];
+        }
+
+        Arrays.fill(mixBuffer, 0);
+        if (current != null && !mix(current, format.getChannels())) {
+            closeTrack(current);
+            current = null;
+        }
+        Iterator<Track> it = fadingOut.iterator();
+        while (it.hasNext()) {
+            Track track = it.next();
+            if (!mix(track, format.getChannels()) || track.isSilent()) {
+                closeTrack(track);
+                it.remove();
+            }
+        }
+        for (int i = 0; i < samples; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[2 * i] = (byte) sample;
+            outputBuffer[2 * i + 1] = (byte) (sample >> 8);
+        }
+        line.write(outputBuffer, 0, bytes);
+
+        if (!isStreaming()) {
+            line.drain();
+            if (pending != null) {
+                Track next = pending;
+                pending = null;
+                startOnLine(next);
+            }
+        }
+    }
+
+    /**
+     * Adds one chunk of the track, with its gain ramp applied, to the mix buffer.
+     * Returns false if the track can no longer be read.
+     */
+    private boolean mix(Track track, int channels) {
+        byte[] buffer = readBuffer;
+        int filled = track.read(buffer);
+        int frames = filled / (2 * channels);
+        int sample = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            float gain = track.nextGain();
+            for (int channel = 0; channel < channels; channel++, sample++) {
+                int value = (short) ((buffer[2 * sample + 1] << 8) | (buffer[2 * sample] & 0xFF));
+                mixBuffer[sample] += (int) (value * gain);
+            }
+        }
+        return filled == buffer.length;
+    }
+
+    private int fadeFrames(AudioFormat format) {
+        return Math.max(1, (int) (format.getFrameRate() * CROSSFADE_MILLIS / 1000f));
+    }
+
+    private void startFallbackClip(String resourcePath) {
+        // No streaming line for this format: play it the old way, but still off the caller's thread.
+        try (AudioInputStream audio = SoundEffect.openPcm(resourcePath)) {
+            if (audio == null) {
+                System.err.println("Audio resource not found: " + resourcePath);
+                return;
+            }
+            fallbackClip = AudioSystem.getClip();
+            fallbackClip.open(audio);
+            fallbackPath = resourcePath;
+            boostGain(fallbackClip);
+            fallbackClip.loop(Clip.LOOP_CONTINUOUSLY);
+            fallbackClip.start();
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Failed to play loop: " + resourcePath);
+            e.printStackTrace();
+            stopFallbackClip();
+        }
+    }
+
+    private void stopFallbackClip() {
+        if (fallbackClip != null) {
+            fallbackClip.stop();
+            fallbackClip.close();
+            fallbackClip = null;
+        }
+        fallbackPath = null;
+    }
+
+    private void closeLine() {
+        if (line != null) {
+            line.stop();
+            line.close();
+            line = null;
+        }
+    }
+
+    // Try to gently boost volume if supported
+    private static void boostGain(Line target) {
+        try {
+            FloatControl gainControl = (FloatControl) target.getControl(FloatControl.Type.MASTER_GAIN);
+            gainControl.setValue(Math.min(gainControl.getMaximum(), gainControl.getValue() + GAIN_BOOST_DB));
+        } catch (IllegalArgumentException ignored) {
+            // Line does not support MASTER_GAIN; just play at default volume
+        }
+    }
+
+    private static void closeTrack(Track track) {
+        if (track != null) {
+            track.close();
+        }
+    }
+
+    private static boolean equalsPath(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * One looping track being decoded, with its current gain ramp.
+     */
+    private static final class Track {
+        final String path;
+        final AudioFormat format;
+        private AudioInputStream stream;
+        float gain = 1f;
+        float targetGain = 1f;
+        private float gainStep;
+
+        private Track(String path, AudioInputStream stream) {
+            this.path = path;
+            this.format = stream.getFormat();
+            this.stream = stream;
+        }
+
+        static Track open(String resourcePath) {
+            try {
+                AudioInputStream stream = SoundEffect.openPcm(resourcePath);
+                if (stream == null) {
+                    System.err.println("Audio resource not found: " + resourcePath);
+                    return null;
+                }
+                return new Track(resourcePath, stream);
+            } catch (UnsupportedAudioFileException | IOException e) {
+                System.err.println("Failed to play loop: " + resourcePath);
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        void fadeTo(float target, int frames) {
+            targetGain = target;
+            gainStep = (target - gain) / frames;
+        }
+
+        float nextGain() {
+            float value = gain;
+            if (gain != targetGain) {
+                gain += gainStep;
+                if ((gainStep > 0 && gain >= targetGain) || (gainStep < 0 && gain <= targetGain)) {
+                    gain = targetGain;
+                }
+            }
+            return value;
+        }
+
+        boolean isSilent() {
+            return targetGain == 0f && gain == 0f;
+        }
+
+        /**
+         * Fills the buffer, starting the track over at its end. Returns how many bytes were filled,
+         * which is less than the buffer only if the resource cannot be read (or is empty).
+         */
+        int read(byte[] buffer) {
+            int filled = 0;
+            boolean reopened = false;
+            try {
+                while (filled < buffer.length) {
+                    int n = stream.read(buffer, filled, buffer.length - filled);
+                    if (n > 0) {
+                        filled += n;
+                        reopened = false;
+                        continue;
+                    }
+                    if (n == 0) {
+                        continue;
+                    }
+                    if (reopened) {
+                        break;
+                    }
+                    stream.close();
+                    AudioInputStream next = SoundEffect.openPcm(path);
+                    if (next == null || !next.getFormat().matches(format)) {
+                        break;
+                    }
+                    stream = next;
+                    reopened = true;
+                }
+            } catch (IOException | UnsupportedAudioFileException e) {
+                System.err.println("Failed to stream loop: " + path);
+                e.printStackTrace();
+            }
+            return filled;
+        }
+
+        void close() {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // Nothing left to release.
+            }
+        }
+    }
+}
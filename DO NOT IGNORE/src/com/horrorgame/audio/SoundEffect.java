@@ -0,0 +1,69 @@
+package com.horrorgame.audio;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * A sound effect decoded once into 16-bit signed little-endian PCM at its own sample rate and channel count.
+ */
+final class SoundEffect {
+
+    final AudioFormat format;
+    final byte[] pcm;
+
+    private SoundEffect(AudioFormat format, byte[] pcm) {
+        this.format = format;
+        this.pcm = pcm;
+    }
+
+    /**
+     * Reads and decodes a classpath resource. Returns null if it does not exist.
+     */
+    static SoundEffect decode(String resourcePath) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream decoded = openPcm(resourcePath)) {
+            return decoded == null ? null : new SoundEffect(decoded.getFormat(), decoded.readAllBytes());
+        }
+    }
+
+    /**
+     * Opens a classpath resource as a stream of 16-bit signed little-endian PCM at the source sample rate
+     * and channel count, decoding on the fly. Returns null if it does not exist.
+     */
+    static AudioInputStream openPcm(String resourcePath) throws IOException, UnsupportedAudioFileException {
+        InputStream is = SoundEffect.class.getResourceAsStream(resourcePath);
+        if (is == null) {
+            return null;
+        }
+        AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(is));
+        AudioFormat sourceFormat = source.getFormat();
+        AudioFormat pcmFormat = new AudioFormat(
+                AudioFormat.Encoding.PCM_SIGNED,
+                sourceFormat.getSampleRate(),
+                16,
+                sourceFormat.getChannels(),
+                sourceFormat.getChannels() * 2,
+                sourceFormat.getSampleRate(),
+                false);
+        if (sourceFormat.matches(pcmFormat)) {
+            return source;
+        }
+        try {
+            return AudioSystem.getAudioInputStream(pcmFormat, source);
+        } catch (IllegalArgumentException e) {
+            source.close();
+            throw new UnsupportedAudioFileException("Cannot decode " + resourcePath + " to PCM: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Key shared by all effects that can be mixed on the same output line.
+     */
+    String formatKey() {
+        return format.getSampleRate() + "Hz/" + format.getChannels() + "ch";
+    }
+}
@@ -1,90 +1,178 @@
 package com.horrorgame.audio;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.sound.sampled.*;
 
 public class SoundManager {
 
-    private static Clip backgroundClip;
+    private static MusicStreamer music;
 
-    // 🎵 Looping background music from classpath
+    private static final Map<String, SoundEffect> effects = new ConcurrentHashMap<>();
+    private static final Map<String, EffectMixer> mixers = new HashMap<>();
+    private static final Set<String> unmixableFormats = ConcurrentHashMap.newKeySet();
+
+    // Clip fallback: playing clips oldest first, closed by one shared thread when they stop.
+    private static final int MAX_CLIP_VOICES = 6;
+    private static final Deque<Clip> activeClips = new ArrayDeque<>();
+    private static final ExecutorService clipCleanup = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sfx-clip-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 🎵 Looping background music from classpath, streamed on the music thread.
+    // Switching tracks crossfades; this call only posts the request and never blocks on decoding.
+    // resourcePath should start with "/" → e.g. "/com/horrorgame/assets/audio/menu_music.wav"
     public static void playLoop(String resourcePath) {
-        stopLoop();  // clean up any previous music
+        music().play(resourcePath);
+    }
 
-        try {
-            // Load from classpath (works in IDE and JAR)
-            // resourcePath should start with "/" → e.g. "/com/horrorgame/assets/audio/menu_music.wav"
-            InputStream is = SoundManager.class.getResourceAsStream(resourcePath);
-            if (is == null) {
-                System.err.println("Audio resource not found: " + resourcePath);
+    // Fades the music out. A playLoop right after continues into the new track instead.
+    public static void stopLoop() {
+        synchronized (SoundManager.class) {
+            if (music == null) {
                 return;
             }
+        }
+        music().play(null);
+    }
 
-            // BufferedInputStream helps with mark/reset support (some formats need it)
-            InputStream bufferedIs = new BufferedInputStream(is);
-            AudioInputStream audio = AudioSystem.getAudioInputStream(bufferedIs);
-
-            backgroundClip = AudioSystem.getClip();
-            backgroundClip.open(audio);
-            // Try to gently boost volume if supported
-            try {
-                FloatControl gainControl = (FloatControl) backgroundClip.getControl(FloatControl.Type.MASTER_GAIN);
-                float current = gainControl.getValue();
-                float boost = 4.0f; // about +4 dB
-                float newValue = Math.min(gainControl.getMaximum(), current + boost);
-                gainControl.setValue(newValue);
-            } catch (IllegalArgumentException ignored) {
-                // Clip does not support MASTER_GAIN; just play at default volume
-            }
-            backgroundClip.loop(Clip.LOOP_CONTINUOUSLY);
-            backgroundClip.start();
+    private static synchronized MusicStreamer music() {
+        if (music == null) {
+            music = new MusicStreamer();
+        }
+        return music;
+    }
 
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.err.println("Failed to play loop: " + resourcePath);
-            e.printStackTrace();
+    // 🔊 One-shot sound effect (non-looping)
+    // Effects are decoded once and mixed on a shared line; the first play of an effect pays for decoding
+    // unless it was preloaded.
+    public static void playSound(String resourcePath) {
+        SoundEffect effect = loadEffect(resourcePath);
+        if (effect == null) {
+            return;
+        }
+        EffectMixer mixer = mixerFor(effect);
+        if (mixer != null) {
+            mixer.play(effect.pcm);
+            return;
         }
+        playClip(effect, resourcePath);
     }
 
-    public static void stopLoop() {
-        if (backgroundClip != null) {
-            if (backgroundClip.isRunning()) {
-                backgroundClip.stop();
+    /**
+     * Decodes the given effects and opens their mixer lines on a background thread, so the first
+     * playSound of each does not decode on the caller's (UI) thread. Call once at startup.
+     */
+    public static void preload(String... resourcePaths) {
+        Thread thread = new Thread(() -> {
+            for (String resourcePath : resourcePaths) {
+                SoundEffect effect = loadEffect(resourcePath);
+                if (effect != null) {
+                    mixerFor(effect);
+                }
+            }
+        }, "sfx-preload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the music and releases the effect mixers' output lines.
+     */
+    public static void shutdown() {
+        synchronized (SoundManager.class) {
+            if (music != null) {
+                music.close();
+                music = null;
+            }
+        }
+        synchronized (mixers) {
+            for (EffectMixer mixer : mixers.values()) {
+                mixer.close();
             }
-            backgroundClip.close();
-            backgroundClip = null;
+            mixers.clear();
         }
     }
 
-    // 🔊 One-shot sound effect (non-looping)
-    public static void playSound(String resourcePath) {
+    private static SoundEffect loadEffect(String resourcePath) {
+        SoundEffect effect = effects.get(resourcePath);
+        if (effect != null) {
+            return effect;
+        }
         try {
-            InputStream is = SoundManager.class.getResourceAsStream(resourcePath);
-            if (is == null) {
-                System.err.println("Sound resource not found: " + resourcePath);
-                return;
-            }
+            effect = SoundEffect.decode(resourcePath);
+        } catch (UnsupportedAudioFileException | IOException e) {
+            System.err.println("Failed to play sound: " + resourcePath);
+            e.printStackTrace();
+            return null;
+        }
+        if (effect == null) {
+            System.err.println("Sound resource not found: " + resourcePath);
+            return null;
+        }
+        SoundEffect raced = effects.putIfAbsent(resourcePath, effect);
+        return raced != null ? raced : effect;
+    }
 
-            InputStream bufferedIs = new BufferedInputStream(is);
-            AudioInputStream audio = AudioSystem.getAudioInputStream(bufferedIs);
+    private static EffectMixer mixerFor(SoundEffect effect) {
+        String key = effect.formatKey();
+        if (unmixableFormats.contains(key)) {
+            return null;
+        }
+        synchronized (mixers) {
+            EffectMixer mixer = mixers.get(key);
+            if (mixer == null) {
+                try {
+                    mixer = EffectMixer.open(effect.format);
+                    mixers.put(key, mixer);
+                } catch (LineUnavailableException e) {
+                    // No streaming line for this format (or no device): fall back to one Clip per play.
+                    unmixableFormats.add(key);
+                }
+            }
+            return mixer;
+        }
+    }
 
+    private static void playClip(SoundEffect effect, String resourcePath) {
+        try {
             Clip clip = AudioSystem.getClip();
-            clip.open(audio);
-            clip.start();
+            clip.open(effect.format, effect.pcm, 0, effect.pcm.length);
+            clip.addLineListener(event -> {
+                if (event.getType() == LineEvent.Type.STOP) {
+                    synchronized (activeClips) {
+                        activeClips.remove(clip);
+                    }
+                    // Closing from inside the line's own event thread can deadlock, so hand it off.
+                    clipCleanup.execute(clip::close);
+                }
+            });
 
-            // Optional: close when done (but don't block thread)
-            new Thread(() -> {
-                while (clip.isRunning()) {
-                    try { Thread.sleep(50); } catch (InterruptedException ignored) {}
+            Clip stolen = null;
+            synchronized (activeClips) {
+                if (activeClips.size() >= MAX_CLIP_VOICES) {
+                    stolen = activeClips.pollFirst();
                 }
-                clip.close();
-                try { bufferedIs.close(); } catch (IOException ignored) {}
-            }).start();
+                activeClips.addLast(clip);
+            }
+            if (stolen != null) {
+                // Oldest effect makes room; its STOP event closes it.
+                stolen.stop();
+            }
+            clip.start();
 
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+        } catch (LineUnavailableException | IllegalArgumentException e) {
             System.err.println("Failed to play sound: " + resourcePath);
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.horrorgame.core;
 
+import com.horrorgame.audio.SoundManager;
 import com.horrorgame.game.GamePanel;
 import com.horrorgame.menu.DifficultyPanel;
 import com.horrorgame.menu.MainMenuPanel;
@@ -23,6 +24,8 @@ public class GameFrame extends JFrame {
         setResizable(false);
         setUndecorated(true);
 
+        SoundManager.preload("/com/horrorgame/assets/audio/hover_click.WAV");
+
         layout = new CardLayout();
         container = new JPanel(layout);
 
@@ -0,0 +1,106 @@
+package com.horrorgame.fx;
+
+import com.horrorgame.game.RoomMediaLibrary;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Per-room anomaly state for the JavaFX game, stored as parallel arrays indexed by room ordinal
+ * (the position of the room in the sorted room key list).
+ * Reads and updates never allocate, so scanning thousands of rooms per tick stays cheap.
+ */
+public final class RoomStateStore {
+
+    private static final byte NO_TYPE = -1;
+    private static final RoomMediaLibrary.AnomalyType[] TYPES = RoomMediaLibrary.AnomalyType.values();
+
+    private final int roomCount;
+    private final BitSet anomalies;
+    private final byte[] anomalyTypes;
+    private final int[] anomalySecondsAlive;
+    private final BitSet penaltyApplied;
+
+    public RoomStateStore(int roomCount) {
+        this.roomCount = roomCount;
+        this.anomalies = new BitSet(roomCount);
+        this.anomalyTypes = new byte[roomCount];
+        this.anomalySecondsAlive = new int[roomCount];
+        this.penaltyApplied = new BitSet(roomCount);
+        Arrays.fill(anomalyTypes, NO_TYPE);
+    }
+
+    public int size() {
+        return roomCount;
+    }
+
+    public boolean hasAnomaly(int roomIndex) {
+        return anomalies.get(roomIndex);
+    }
+
+    /**
+     * Index of the first room at or after {@code fromIndex} with a live anomaly, or -1.
+     * Walking the haunted rooms this way skips 64 clear rooms per word, so it costs roughly
+     * the number of live anomalies rather than the number of rooms.
+     */
+    public int nextAnomaly(int fromIndex) {
+        return anomalies.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Type of the live anomaly in the room, or null if it has none.
+     */
+    public RoomMediaLibrary.AnomalyType getAnomalyType(int roomIndex) {
+        byte ordinal = anomalyTypes[roomIndex];
+        return ordinal == NO_TYPE ? null : TYPES[ordinal];
+    }
+
+    public int getAnomalySecondsAlive(int roomIndex) {
+        return anomalySecondsAlive[roomIndex];
+    }
+
+    /**
+     * Whether the last anomaly in the room expired unreported.
+     */
+    public boolean isPenaltyApplied(int roomIndex) {
+        return penaltyApplied.get(roomIndex);
+    }
+
+    public void setAnomaly(int roomIndex, RoomMediaLibrary.AnomalyType type) {
+        anomalies.set(roomIndex);
+        anomalyTypes[roomIndex] = (byte) type.ordinal();
+        anomalySecondsAlive[roomIndex] = 0;
+        penaltyApplied.clear(roomIndex);
+    }
+
+    /**
+     * Ages the room's anomaly by one second and returns its new age.
+     */
+    public int age(int roomIndex) {
+        return ++anomalySecondsAlive[roomIndex];
+    }
+
+    /**
+     * Removes the room's anomaly, e.g. after a correct report.
+     */
+    public void clear(int roomIndex) {
+        anomalies.clear(roomIndex);
+        anomalyTypes[roomIndex] = NO_TYPE;
+        anomalySecondsAlive[roomIndex] = 0;
+        penaltyApplied.clear(roomIndex);
+    }
+
+    /**
+     * Removes the room's anomaly because it went unreported for too long.
+     */
+    public void expire(int roomIndex) {
+        clear(roomIndex);
+        penaltyApplied.set(roomIndex);
+    }
+
+    public void clearAll() {
+        anomalies.clear();
+        penaltyApplied.clear();
+        Arrays.fill(anomalyTypes, NO_TYPE);
+        Arrays.fill(anomalySecondsAlive, 0);
+    }
+}
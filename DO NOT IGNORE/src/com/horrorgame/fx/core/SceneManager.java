@@ -1,6 +1,7 @@
 package com.horrorgame.fx.core;
 
 import com.horrorgame.audio.SoundManager;
+import com.horrorgame.fx.DifficultyLevel;
 import com.horrorgame.fx.logic.AnomalyManager;
 import com.horrorgame.fx.logic.GameController;
 import com.horrorgame.fx.logic.ThreatManager;
@@ -8,18 +9,43 @@ import com.horrorgame.fx.ui.GameSceneController;
 import com.horrorgame.fx.ui.MenuController;
 import com.horrorgame.game.RoomMediaLibrary;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 /**
  * Coordinates high-level scene switching and lifecycle for the JavaFX game.
+ * Only the main menu is built up front. Other scenes are built on first use and cached, and the
+ * scene the player is most likely to open next is pre-built shortly after the current one is shown.
+ * The room media library is loaded in the background; the game session (controller and game scene)
+ * needs it and is built on the FX thread once it is ready.
  */
 public class SceneManager {
 
+    // Gives the newly shown scene a few frames before idle pre-building starts.
+    private static final Duration PREBUILD_DELAY = Duration.millis(300);
+
     private final Stage stage;
 
+    private final ExecutorService loaderExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-media-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CompletableFuture<RoomMediaLibrary> mediaLibraryFuture;
     private RoomMediaLibrary mediaLibrary;
-    private List<String> roomKeys;
+    private String mediaLibraryError;
+
+    private DifficultyLevel difficulty = DifficultyLevel.MEDIUM;
+    private boolean startRequested;
 
     private GameController gameController;
     private MenuController menuController;
@@ -35,52 +61,149 @@ public class SceneManager {
     }
 
     public void init() {
-        mediaLibrary = RoomMediaLibrary.load(SceneManager.class);
-        roomKeys = mediaLibrary.getRoomKeys();
-        if (roomKeys.isEmpty()) {
-            throw new IllegalStateException("No room MP4s found under /com/horrorgame/assets/images/rooms/");
+        SoundManager.preload("/com/horrorgame/assets/audio/hover_click.WAV");
+        menuController = new MenuController(this);
+
+        AtomicInteger roomsFound = new AtomicInteger();
+        AtomicBoolean progressPosted = new AtomicBoolean();
+        mediaLibraryFuture = CompletableFuture.supplyAsync(() -> {
+            RoomMediaLibrary library = RoomMediaLibrary.load(SceneManager.class, roomKey -> {
+                roomsFound.incrementAndGet();
+                // At most one pending progress update on the FX queue, however fast rooms are found.
+                if (progressPosted.compareAndSet(false, true)) {
+                    Platform.runLater(() -> {
+                        progressPosted.set(false);
+                        menuController.setLoadingProgress(roomsFound.get());
+                    });
+                }
+            });
+            if (library.getRoomKeys().isEmpty()) {
+                throw new IllegalStateException("No room MP4s found under /com/horrorgame/assets/images/rooms/");
+            }
+            return library;
+        }, loaderExecutor);
+
+        mainMenuScene = menuController.buildMainMenuScene();
+
+        stage.setTitle("DO NOT IGNORE");
+        stage.setScene(mainMenuScene);
+        menuController.applyFullscreenBounds(stage);
+        stage.show();
+        prebuildLater(this::difficultyScene);
+
+        mediaLibraryFuture.whenComplete((library, error) -> Platform.runLater(() -> onMediaLibraryLoaded(library, error)));
+    }
+
+    private void onMediaLibraryLoaded(RoomMediaLibrary library, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            mediaLibraryError = cause.getMessage();
+            startRequested = false;
+            menuController.showLoadingError(mediaLibraryError);
+            return;
         }
+        mediaLibrary = library;
+        menuController.hideLoading();
+        if (startRequested) {
+            startRequested = false;
+            startGame();
+        } else if (stage.getScene() == instructionsScene) {
+            prebuildLater(this::ensureGameSession);
+        }
+    }
+
+    private Scene difficultyScene() {
+        if (difficultyScene == null) {
+            difficultyScene = menuController.buildDifficultyScene();
+        }
+        return difficultyScene;
+    }
+
+    private Scene instructionsScene() {
+        if (instructionsScene == null) {
+            instructionsScene = menuController.buildInstructionsScene();
+        }
+        return instructionsScene;
+    }
 
+    /**
+     * Builds the game controller and scene once the rooms are loaded. Returns false while they are not.
+     */
+    private boolean ensureGameSession() {
+        if (gameController != null) {
+            return true;
+        }
+        if (mediaLibrary == null) {
+            return false;
+        }
+        List<String> roomKeys = mediaLibrary.getRoomKeys();
         ThreatManager threatManager = new ThreatManager();
         AnomalyManager anomalyManager = new AnomalyManager(mediaLibrary, roomKeys);
 
         gameController = new GameController(mediaLibrary, roomKeys, threatManager, anomalyManager, this);
         gameSceneController = new GameSceneController(gameController, threatManager);
+        gameScene = gameSceneController.buildGameScene();
         gameController.attachView(gameSceneController);
+        return true;
+    }
 
-        menuController = new MenuController(this, gameController);
-
-        mainMenuScene = menuController.buildMainMenuScene();
-        difficultyScene = menuController.buildDifficultyScene();
-        instructionsScene = menuController.buildInstructionsScene();
-        gameScene = gameSceneController.buildGameScene();
+    /**
+     * Runs a scene build on the FX thread once the current scene has had time to render.
+     */
+    private void prebuildLater(Runnable build) {
+        PauseTransition delay = new PauseTransition(PREBUILD_DELAY);
+        delay.setOnFinished(e -> build.run());
+        delay.play();
+    }
 
-        stage.setTitle("DO NOT IGNORE");
-        stage.setScene(mainMenuScene);
-        menuController.applyFullscreenBounds(stage);
-        stage.show();
+    public void setDifficulty(DifficultyLevel difficulty) {
+        if (difficulty != null) {
+            this.difficulty = difficulty;
+        }
     }
 
     public void showMainMenu() {
-        gameController.shutdown();
+        if (gameController != null) {
+            gameController.shutdown();
+        }
         SoundManager.playLoop("/com/horrorgame/assets/audio/menu_music.WAV");
         stage.setScene(mainMenuScene);
         menuController.applyFullscreenBounds(stage);
     }
 
     public void showDifficulty() {
-        stage.setScene(difficultyScene);
+        if (startRequested) {
+            // Backed out while waiting for the rooms.
+            startRequested = false;
+            menuController.hideLoading();
+        }
+        stage.setScene(difficultyScene());
         menuController.applyFullscreenBounds(stage);
+        prebuildLater(this::instructionsScene);
     }
 
     public void showInstructions() {
-        stage.setScene(instructionsScene);
+        stage.setScene(instructionsScene());
         menuController.applyFullscreenBounds(stage);
+        prebuildLater(this::ensureGameSession);
     }
 
+    /**
+     * Starts a night, or waits on the instructions screen until the rooms are loaded.
+     */
     public void startGame() {
+        if (!ensureGameSession()) {
+            if (mediaLibraryError != null) {
+                menuController.showLoadingError(mediaLibraryError);
+                return;
+            }
+            startRequested = true;
+            menuController.showLoading();
+            return;
+        }
         SoundManager.stopLoop();
         SoundManager.playLoop("/com/horrorgame/assets/audio/VHSNoise.wav");
+        gameController.setDifficulty(difficulty);
         gameController.startNewGame();
         stage.setScene(gameScene);
         menuController.applyFullscreenBounds(stage);
@@ -88,18 +211,18 @@ public class SceneManager {
 
     public void playAgainSameDifficulty() {
         // Keep previously selected difficulty; just restart the session.
-        SoundManager.stopLoop();
-        SoundManager.playLoop("/com/horrorgame/assets/audio/VHSNoise.wav");
-        gameController.startNewGame();
-        stage.setScene(gameScene);
-        menuController.applyFullscreenBounds(stage);
+        startGame();
     }
 
     public void shutdown() {
+        startRequested = false;
+        loaderExecutor.shutdownNow();
         if (gameController != null) {
             gameController.shutdown();
         }
-        SoundManager.stopLoop();
+        if (gameSceneController != null) {
+            gameSceneController.dispose();
+        }
+        SoundManager.shutdown();
     }
 }
-
@@ -1,112 +1,148 @@
 package com.horrorgame.fx.logic;
 
-import com.horrorgame.fx.RoomState;
+import com.horrorgame.fx.RoomStateStore;
 import com.horrorgame.game.RoomMediaLibrary;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 /**
  * Owns per-room anomaly state and implements anomaly spawning/aging rules.
- * UI-free: it only mutates {@link RoomState} and reports outcomes to callers.
+ * UI-free: it only mutates the {@link RoomStateStore} and reports outcomes to callers.
+ * Rooms are addressed by their index in {@code roomKeys}.
  */
 public class AnomalyManager {
 
-    private final RoomMediaLibrary mediaLibrary;
     private final List<String> roomKeys;
-    private final Map<String, RoomState> roomStates = new HashMap<>();
-    private final Random random = new Random();
+    private final RoomStateStore roomStates;
+    // Anomaly types each room has clips for, in declaration order.
+    private final RoomMediaLibrary.AnomalyType[][] spawnableTypes;
+    // Rooms that could take a new anomaly right now: clear, with at least one anomaly clip.
+    private final RoomIndexSet freeRooms;
+    private final Random random;
+    private Listener listener;
+
+    /**
+     * Notified whenever a room gains or loses an anomaly.
+     */
+    public interface Listener {
+        void onRoomStateChanged(int roomIndex);
+    }
 
     public AnomalyManager(RoomMediaLibrary mediaLibrary, List<String> roomKeys) {
-        this.mediaLibrary = mediaLibrary;
+        this(mediaLibrary, roomKeys, new Random());
+    }
+
+    public AnomalyManager(RoomMediaLibrary mediaLibrary, List<String> roomKeys, Random random) {
         this.roomKeys = roomKeys;
-        for (String key : roomKeys) {
-            roomStates.put(key, new RoomState());
+        this.random = random;
+        this.roomStates = new RoomStateStore(roomKeys.size());
+        this.spawnableTypes = new RoomMediaLibrary.AnomalyType[roomKeys.size()][];
+        for (int i = 0; i < roomKeys.size(); i++) {
+            spawnableTypes[i] = mediaLibrary.getAvailableAnomalyTypes(roomKeys.get(i))
+                    .toArray(new RoomMediaLibrary.AnomalyType[0]);
         }
+        this.freeRooms = new RoomIndexSet(roomKeys.size());
+        refillFreeRooms();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
     }
 
-    public Map<String, RoomState> getRoomStates() {
+    public RoomStateStore getRoomStates() {
         return roomStates;
     }
 
-    public RoomState getState(String roomKey) {
-        return roomStates.get(roomKey);
+    public boolean hasAnomaly(int roomIndex) {
+        return roomStates.hasAnomaly(roomIndex);
+    }
+
+    /**
+     * Type of the room's live anomaly, or null if the room is clear.
+     */
+    public RoomMediaLibrary.AnomalyType getAnomalyType(int roomIndex) {
+        return roomStates.getAnomalyType(roomIndex);
     }
 
     public void reset() {
-        for (String key : roomKeys) {
-            RoomState s = roomStates.get(key);
-            if (s != null) {
-                s.hasAnomaly = false;
-                s.anomalyType = null;
-                s.anomalySecondsAlive = 0;
-                s.penaltyApplied = false;
+        roomStates.clearAll();
+        refillFreeRooms();
+    }
+
+    private void refillFreeRooms() {
+        freeRooms.clear();
+        for (int i = 0; i < spawnableTypes.length; i++) {
+            if (spawnableTypes[i].length > 0) {
+                freeRooms.add(i);
             }
         }
     }
 
+    /**
+     * Removes the anomaly from a room, e.g. after a correct report.
+     */
+    public void clearAnomaly(int roomIndex) {
+        roomStates.clear(roomIndex);
+        markFree(roomIndex);
+        notifyChanged(roomIndex);
+    }
+
     public int tickExistingAnomalies(int delaySeconds, int currentRoomIndex) {
         int misses = 0;
-        String currentKey = roomKeys.isEmpty() ? null : roomKeys.get(currentRoomIndex);
-        for (String key : roomKeys) {
-            RoomState state = roomStates.get(key);
-            if (state != null && state.hasAnomaly && !state.penaltyApplied) {
-                state.anomalySecondsAlive++;
-                if (state.anomalySecondsAlive >= delaySeconds) {
-                    misses++;
-                    state.penaltyApplied = true;
-                    state.hasAnomaly = false;
-                    state.anomalyType = null;
-                    state.anomalySecondsAlive = 0;
-                    // Caller decides whether to refresh current room display.
-                }
+        // Only haunted rooms are visited; expiring one clears its bit, which is already behind the cursor.
+        for (int i = roomStates.nextAnomaly(0); i >= 0; i = roomStates.nextAnomaly(i + 1)) {
+            if (roomStates.age(i) >= delaySeconds) {
+                misses++;
+                roomStates.expire(i);
+                markFree(i);
+                notifyChanged(i);
+                // Caller decides whether to refresh current room display.
             }
         }
         return misses;
     }
 
     /**
-     * Spawns a new anomaly in a non-current room that doesn't already have an anomaly.
+     * Spawns a new anomaly in a non-current room that doesn't already have an anomaly,
+     * chosen uniformly among all such rooms. Only fails when there is no candidate.
      * Returns the index of the room that received an anomaly, or -1 if none.
      */
     public int spawnAnomalyExcludingCurrent(int currentRoomIndex) {
-        if (roomKeys.isEmpty()) {
-            return -1;
-        }
-        int chosenIndex = -1;
-        for (int attempts = 0; attempts < roomKeys.size(); attempts++) {
-            int candidate = random.nextInt(roomKeys.size());
-            if (candidate == currentRoomIndex) {
-                continue;
-            }
-            String candidateKey = roomKeys.get(candidate);
-            RoomState candidateState = roomStates.get(candidateKey);
-            if (candidateState == null || !candidateState.hasAnomaly) {
-                chosenIndex = candidate;
-                break;
-            }
+        int candidates = freeRooms.size();
+        boolean currentIsFree = currentRoomIndex >= 0 && currentRoomIndex < roomKeys.size()
+                && freeRooms.contains(currentRoomIndex);
+        if (currentIsFree) {
+            candidates--;
         }
-        if (chosenIndex < 0) {
+        if (candidates <= 0) {
             return -1;
         }
 
-        String roomKey = roomKeys.get(chosenIndex);
-        RoomState state = roomStates.computeIfAbsent(roomKey, k -> new RoomState());
-        if (state.hasAnomaly) {
-            return -1;
+        // Draw from every free slot but the current room's, which is swapped for the last slot.
+        int position = random.nextInt(candidates);
+        if (currentIsFree && position == freeRooms.positionOf(currentRoomIndex)) {
+            position = candidates;
         }
+        int chosenIndex = freeRooms.get(position);
 
-        List<RoomMediaLibrary.AnomalyType> available = mediaLibrary.getAvailableAnomalyTypes(roomKey);
-        if (available.isEmpty()) {
-            return -1;
-        }
-        RoomMediaLibrary.AnomalyType type = available.get(random.nextInt(available.size()));
-        state.hasAnomaly = true;
-        state.anomalyType = type;
-        state.anomalySecondsAlive = 0;
-        state.penaltyApplied = false;
+        RoomMediaLibrary.AnomalyType[] available = spawnableTypes[chosenIndex];
+        RoomMediaLibrary.AnomalyType type = available[random.nextInt(available.length)];
+        roomStates.setAnomaly(chosenIndex, type);
+        freeRooms.remove(chosenIndex);
+        notifyChanged(chosenIndex);
         return chosenIndex;
     }
+
+    private void markFree(int roomIndex) {
+        if (spawnableTypes[roomIndex].length > 0) {
+            freeRooms.add(roomIndex);
+        }
+    }
+
+    private void notifyChanged(int roomIndex) {
+        if (listener != null) {
+            listener.onRoomStateChanged(roomIndex);
+        }
+    }
 }
 
@@ -0,0 +1,263 @@
+package com.horrorgame.fx.logic;
+
+import com.horrorgame.fx.DifficultyLevel;
+import com.horrorgame.game.RoomMediaLibrary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Batch runner that plays large numbers of headless nights per {@link DifficultyLevel} with
+ * scripted player policies, spread over all cores, and prints win rates and threat curves.
+ * Run it through the {@code tuneDifficulty} Gradle task, e.g.
+ * {@code ./gradlew tuneDifficulty --args="--nights 200000 --rooms 12"}.
+ */
+public final class DifficultyTuner {
+
+    // Report flow timings from GameController, rounded to whole game seconds.
+    private static final int REPORT_DELAY_SECONDS = 3;
+    private static final int REPORT_LOCKOUT_SECONDS = 3;
+
+    private static final int CURVE_STEP_MINUTES = 30;
+    private static final int CURVE_POINTS = GameSimulation.NIGHT_LENGTH_MINUTES / CURVE_STEP_MINUTES + 1;
+
+    /**
+     * Scripted player behaviour.
+     * A policy switches to the next camera every {@code patrolSeconds} (0 = leave it to auto-advance),
+     * reports an anomaly it is looking at after {@code reactionSeconds}, and names the right type with
+     * probability {@code accuracy}.
+     */
+    public enum Policy {
+        IDLE(0, 0, 0.0),
+        CASUAL(12, 4, 0.6),
+        SKILLED(6, 2, 0.9),
+        PERFECT(3, 1, 1.0);
+
+        final int patrolSeconds;
+        final int reactionSeconds;
+        final double accuracy;
+
+        Policy(int patrolSeconds, int reactionSeconds, double accuracy) {
+            this.patrolSeconds = patrolSeconds;
+            this.reactionSeconds = reactionSeconds;
+            this.accuracy = accuracy;
+        }
+    }
+
+    /**
+     * Aggregated outcome of a batch of nights.
+     */
+    public static final class Stats {
+        long nights;
+        long wins;
+        long survivedMinutes;
+        final double[] threatSums = new double[CURVE_POINTS];
+
+        Stats merge(Stats other) {
+            nights += other.nights;
+            wins += other.wins;
+            survivedMinutes += other.survivedMinutes;
+            for (int i = 0; i < CURVE_POINTS; i++) {
+                threatSums[i] += other.threatSums[i];
+            }
+            return this;
+        }
+
+        public double winRate() {
+            return nights == 0 ? 0.0 : (double) wins / nights;
+        }
+
+        public double meanSurvivedMinutes() {
+            return nights == 0 ? 0.0 : (double) survivedMinutes / nights;
+        }
+
+        /** Mean threat level every 30 in-game minutes, from 12:00 to 6:00 AM. */
+        public double[] threatCurve() {
+            double[] curve = new double[CURVE_POINTS];
+            for (int i = 0; i < CURVE_POINTS; i++) {
+                curve[i] = nights == 0 ? 0.0 : threatSums[i] / nights;
+            }
+            return curve;
+        }
+    }
+
+    private DifficultyTuner() {
+    }
+
+    public static void main(String[] args) {
+        int nights = 100_000;
+        int rooms = 0;
+        long seed = 20240601L;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + args[i]);
+            }
+            switch (args[i]) {
+                case "--nights" -> nights = Integer.parseInt(args[i + 1]);
+                case "--rooms" -> rooms = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        RoomMediaLibrary library = rooms > 0 ? syntheticLibrary(rooms) : RoomMediaLibrary.load(DifficultyTuner.class);
+        if (library.getRoomKeys().isEmpty()) {
+            library = syntheticLibrary(6);
+        }
+
+        System.out.printf("%d nights per row, %d rooms, seed %d, %d cores%n",
+                nights, library.getRoomKeys().size(), seed, Runtime.getRuntime().availableProcessors());
+        StringBuilder header = new StringBuilder(String.format("%-8s %-8s %7s %9s  threat", "level", "policy", "win%", "survived"));
+        for (int i = 1; i < CURVE_POINTS; i++) {
+            int minute = i * CURVE_STEP_MINUTES;
+            header.append(String.format(" %5s", (minute / 60 == 0 ? 12 : minute / 60) + ":" + String.format("%02d", minute % 60)));
+        }
+        System.out.println(header);
+
+        long started = System.nanoTime();
+        for (DifficultyLevel level : DifficultyLevel.values()) {
+            GameRules rules = GameRules.forDifficulty(level);
+            for (Policy policy : Policy.values()) {
+                Stats stats = run(library, rules, policy, nights, seed);
+                StringBuilder row = new StringBuilder(String.format("%-8s %-8s %6.1f%% %9.1f  ",
+                        level, policy, stats.winRate() * 100.0, stats.meanSurvivedMinutes()));
+                double[] curve = stats.threatCurve();
+                for (int i = 1; i < CURVE_POINTS; i++) {
+                    row.append(String.format(" %5.1f", curve[i]));
+                }
+                System.out.println(row);
+            }
+        }
+        System.out.printf("Done in %.2f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Simulates {@code nights} nights on the common fork/join pool. Results depend only on the seed,
+     * not on the number of cores.
+     */
+    public static Stats run(RoomMediaLibrary library, GameRules rules, Policy policy, int nights, long seed) {
+        int chunkSize = 1_000;
+        int chunks = (nights + chunkSize - 1) / chunkSize;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> runChunk(library, rules, policy,
+                        Math.min(chunkSize, nights - chunk * chunkSize), seed + 0x9E3779B97F4A7C15L * (chunk + 1)))
+                .collect(Stats::new, Stats::merge, Stats::merge);
+    }
+
+    private static Stats runChunk(RoomMediaLibrary library, GameRules rules, Policy policy, int nights, long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        GameSimulation simulation = GameSimulation.headless(library, seeds.nextLong());
+        List<String> roomKeys = library.getRoomKeys();
+        Random playerRandom = new Random(seeds.nextLong());
+        Stats stats = new Stats();
+        for (int night = 0; night < nights; night++) {
+            simulation.start(rules, playerRandom.nextInt(roomKeys.size()));
+            playNight(simulation, roomKeys, policy, playerRandom, stats);
+        }
+        return stats;
+    }
+
+    private static void playNight(GameSimulation simulation, List<String> roomKeys, Policy policy,
+                                  Random random, Stats stats) {
+        AnomalyManager anomalies = simulation.getAnomalyManager();
+        int roomCount = roomKeys.size();
+        int onRoomSeconds = 0;
+        int seenForSeconds = 0;
+        int reportDueIn = -1;
+        int reportRoom = -1;
+        RoomMediaLibrary.AnomalyType reportType = null;
+        int lockoutSeconds = 0;
+        int lastRoom = simulation.getCurrentRoomIndex();
+
+        stats.threatSums[0] += simulation.getThreatLevel();
+        while (!simulation.isOver()) {
+            simulation.tick();
+            int minute = simulation.getGameMinutes();
+            if (minute % CURVE_STEP_MINUTES == 0 && !simulation.isOver()) {
+                stats.threatSums[minute / CURVE_STEP_MINUTES] += simulation.getThreatLevel();
+            }
+            if (simulation.isOver()) {
+                break;
+            }
+
+            if (reportDueIn > 0 && --reportDueIn == 0) {
+                simulation.resolveReport(reportRoom, reportType);
+                reportDueIn = -1;
+                lockoutSeconds = REPORT_LOCKOUT_SECONDS;
+            } else if (lockoutSeconds > 0) {
+                lockoutSeconds--;
+            }
+
+            int current = simulation.getCurrentRoomIndex();
+            if (current != lastRoom) {
+                onRoomSeconds = 0;
+                seenForSeconds = 0;
+                lastRoom = current;
+            }
+            onRoomSeconds++;
+
+            if (policy == Policy.IDLE) {
+                continue;
+            }
+            RoomMediaLibrary.AnomalyType visibleType = anomalies.getAnomalyType(current);
+            boolean anomalyVisible = visibleType != null;
+            seenForSeconds = anomalyVisible ? seenForSeconds + 1 : 0;
+            if (anomalyVisible && seenForSeconds >= policy.reactionSeconds && reportDueIn < 0 && lockoutSeconds == 0) {
+                reportRoom = current;
+                reportType = random.nextDouble() < policy.accuracy ? visibleType : wrongType(visibleType, random);
+                reportDueIn = REPORT_DELAY_SECONDS;
+                continue;
+            }
+            if (!anomalyVisible && policy.patrolSeconds > 0 && onRoomSeconds >= policy.patrolSeconds && reportDueIn < 0) {
+                simulation.moveToRoom((current + 1) % roomCount);
+            }
+        }
+
+        int survived = Math.min(simulation.getGameMinutes(), GameSimulation.NIGHT_LENGTH_MINUTES);
+        stats.nights++;
+        stats.survivedMinutes += survived;
+        if (survived >= GameSimulation.NIGHT_LENGTH_MINUTES) {
+            stats.wins++;
+            stats.threatSums[CURVE_POINTS - 1] += simulation.getThreatLevel();
+        } else {
+            // A lost night stays at maximum threat for the rest of the curve.
+            for (int i = survived / CURVE_STEP_MINUTES + 1; i < CURVE_POINTS; i++) {
+                stats.threatSums[i] += ThreatManager.MAX;
+            }
+        }
+    }
+
+    private static RoomMediaLibrary.AnomalyType wrongType(RoomMediaLibrary.AnomalyType actual, Random random) {
+        RoomMediaLibrary.AnomalyType[] types = RoomMediaLibrary.AnomalyType.values();
+        RoomMediaLibrary.AnomalyType guess = types[random.nextInt(types.length - 1)];
+        return guess.ordinal() >= actual.ordinal() ? types[guess.ordinal() + 1] : guess;
+    }
+
+    /**
+     * Library over {@link #syntheticResources(int)}.
+     */
+    public static RoomMediaLibrary syntheticLibrary(int rooms) {
+        return RoomMediaLibrary.fromResources(syntheticResources(rooms));
+    }
+
+    /**
+     * Resource paths for rooms with a normal clip, a jumpscare and one clip per anomaly type,
+     * named {@code cam1} and up. The files do not need to exist.
+     */
+    public static List<String> syntheticResources(int rooms) {
+        List<String> paths = new ArrayList<>();
+        for (int i = 1; i <= rooms; i++) {
+            String roomKey = "cam" + i;
+            String base = "/com/horrorgame/assets/images/rooms/" + roomKey + "/" + roomKey;
+            paths.add(base + "_normal.mp4");
+            paths.add("/com/horrorgame/assets/images/rooms/" + roomKey + "/jumpscare/" + roomKey + ".mp4");
+            for (RoomMediaLibrary.AnomalyType type : RoomMediaLibrary.AnomalyType.values()) {
+                paths.add(base + "_" + type.name().toLowerCase() + ".mp4");
+            }
+        }
+        return paths;
+    }
+}
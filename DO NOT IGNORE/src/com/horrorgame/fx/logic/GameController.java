@@ -1,7 +1,6 @@
 package com.horrorgame.fx.logic;
 
 import com.horrorgame.fx.DifficultyLevel;
-import com.horrorgame.fx.RoomState;
 import com.horrorgame.fx.core.SceneManager;
 import com.horrorgame.fx.ui.GameView;
 import com.horrorgame.game.RoomMediaLibrary;
@@ -14,39 +13,37 @@ import javafx.util.Duration;
 
 /**
  * Core gameplay logic for the JavaFX version.
- * Owns game state + timers and drives the {@link GameView}.
+ * Runs the {@link GameSimulation} on the game clock, owns UI-side timers and drives the {@link GameView}.
  */
-public class GameController implements GameActions {
+public class GameController implements GameActions, GameSimulation.Listener {
 
     private static final int REPORT_COOLDOWN_SECONDS = 2;
+    private static final int REPORT_DELAY_TICKS = 3 * GameScheduler.TICKS_PER_SECOND;
+    private static final int REPORT_RESULT_TICKS = 1200 / GameScheduler.STEP_MILLIS;
     private static final String CAMERA_TRANSITION_PATH = "/com/horrorgame/assets/transition/camera_transition_sfx.mp4";
 
     private final RoomMediaLibrary mediaLibrary;
     private final List<String> roomKeys;
     private final ThreatManager threatManager;
-    private final AnomalyManager anomalyManager;
+    private final GameSimulation simulation;
     private final SceneManager sceneManager;
+    private final MediaPrefetcher mediaPrefetcher;
     private final Random random = new Random();
 
     private GameView view;
 
     private DifficultyLevel difficulty = DifficultyLevel.MEDIUM;
 
-    private int currentRoomIndex = 0;
-    private int gameMinutesTotal = 0;
-    private int secondsOnCurrentRoom = 0;
-    private int threatLevel = 0;
-
     private boolean paused = false;
-    private boolean deathCountdownActive = false;
     private boolean reportSubmissionInProgress = false;
     private boolean cameraTransitionPlaying = false;
     private boolean jumpscareActive = false;
 
-    private Timeline gameTimeline;
-    private Timeline anomalyTimeline;
-    private Timeline deathCountdownTimeline;
-    private Timeline reportCooldownTimeline;
+    // Every game-time event runs on the scheduler; the pulse timeline is the only animation it needs.
+    private final GameScheduler scheduler = new GameScheduler();
+    private final Timeline pulseTimeline;
+    private GameScheduler.Task gameTask;
+    private GameScheduler.Task reportCooldownTask;
 
     public GameController(
             RoomMediaLibrary mediaLibrary,
@@ -58,15 +55,20 @@ public class GameController implements GameActions {
         this.mediaLibrary = mediaLibrary;
         this.roomKeys = roomKeys;
         this.threatManager = threatManager;
-        this.anomalyManager = anomalyManager;
         this.sceneManager = sceneManager;
-        if (!roomKeys.isEmpty()) {
-            currentRoomIndex = random.nextInt(roomKeys.size());
-        }
+        this.simulation = new GameSimulation(roomKeys, threatManager, anomalyManager, random);
+        simulation.setListener(this);
+        this.mediaPrefetcher = new MediaPrefetcher(mediaLibrary, roomKeys, anomalyManager);
+        anomalyManager.setListener(mediaPrefetcher);
+        pulseTimeline = new Timeline(new KeyFrame(Duration.millis(GameScheduler.STEP_MILLIS), e -> scheduler.advance()));
+        pulseTimeline.setCycleCount(Timeline.INDEFINITE);
+        simulation.start(GameRules.forDifficulty(difficulty), roomKeys.isEmpty() ? 0 : random.nextInt(roomKeys.size()));
     }
 
     public void attachView(GameView view) {
         this.view = view;
+        mediaPrefetcher.attachView(view);
+        view.prepareTransition(CAMERA_TRANSITION_PATH);
         refreshRoomLabel();
         refreshThreatView();
         refreshTimeLabel();
@@ -87,16 +89,9 @@ public class GameController implements GameActions {
         cameraTransitionPlaying = false;
         reportSubmissionInProgress = false;
         paused = false;
-        deathCountdownActive = false;
 
-        gameMinutesTotal = 0;
-        secondsOnCurrentRoom = 0;
-        threatLevel = 0;
-
-        anomalyManager.reset();
-        if (!roomKeys.isEmpty()) {
-            currentRoomIndex = random.nextInt(roomKeys.size());
-        }
+        simulation.start(GameRules.forDifficulty(difficulty), roomKeys.isEmpty() ? 0 : random.nextInt(roomKeys.size()));
+        mediaPrefetcher.reset();
 
         playCurrentRoomMedia();
         refreshRoomLabel();
@@ -107,75 +102,54 @@ public class GameController implements GameActions {
     }
 
     private void startTimelines() {
-        gameTimeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> tickGameSecond()));
-        gameTimeline.setCycleCount(Timeline.INDEFINITE);
-        gameTimeline.play();
-
-        anomalyTimeline = new Timeline(new KeyFrame(Duration.seconds(5), e -> tickAnomalies()));
-        anomalyTimeline.setCycleCount(Timeline.INDEFINITE);
-        anomalyTimeline.play();
+        gameTask = scheduler.scheduleRepeating(GameScheduler.TICKS_PER_SECOND, this::tickGameSecond);
+        pulseTimeline.play();
     }
 
     private void tickGameSecond() {
         if (paused || jumpscareActive) {
             return;
         }
-        gameMinutesTotal++;
-        refreshTimeLabel();
-
-        secondsOnCurrentRoom++;
-        if (secondsOnCurrentRoom >= 20) {
-            secondsOnCurrentRoom = 0;
-            if (!roomKeys.isEmpty()) {
-                currentRoomIndex = (currentRoomIndex + 1) % roomKeys.size();
-                playCurrentRoomMedia();
-                refreshRoomLabel();
-                adjustThreat(3);
-            }
-        }
+        simulation.tick();
+    }
 
-        if (gameMinutesTotal >= 360) {
-            stopAllTimelines();
-            Platform.runLater(() -> showGameOver(true));
-        }
+    @Override
+    public void onTimeChanged(int gameMinutes) {
+        refreshTimeLabel();
     }
 
-    private void tickAnomalies() {
-        if (paused || jumpscareActive) {
-            return;
-        }
-        if (gameMinutesTotal < 30) {
-            return;
-        }
-        if (roomKeys.isEmpty()) {
-            return;
-        }
+    @Override
+    public void onRoomChanged(int roomIndex) {
+        playCurrentRoomMedia();
+        refreshRoomLabel();
+    }
 
-        String currentKey = roomKeys.get(currentRoomIndex);
-        RoomState currentState = anomalyManager.getState(currentKey);
-        boolean currentHadAnomaly = currentState != null && currentState.hasAnomaly;
+    @Override
+    public void onThreatChanged(int threatLevel) {
+        refreshThreatView();
+    }
 
-        int misses = anomalyManager.tickExistingAnomalies(getDelayBeforePenaltySeconds(), currentRoomIndex);
-        if (misses > 0) {
-            adjustThreat(getMissAnomalyPenalty() * misses);
-        }
+    @Override
+    public void onCurrentRoomCleared() {
+        playCurrentRoomMedia();
+    }
 
-        boolean currentHasAnomalyNow = currentState != null && currentState.hasAnomaly;
-        if (currentHadAnomaly && !currentHasAnomalyNow) {
-            playCurrentRoomMedia();
-        }
+    @Override
+    public void onNightSurvived() {
+        stopAllTimelines();
+        Platform.runLater(() -> showGameOver(true));
+    }
 
-        double spawnChance = getAnomalySpawnChance();
-        if (random.nextDouble() > spawnChance) {
-            return;
-        }
-        anomalyManager.spawnAnomalyExcludingCurrent(currentRoomIndex);
+    @Override
+    public void onDeath() {
+        triggerDeathJumpscare();
     }
 
     private void refreshTimeLabel() {
         if (view == null) {
             return;
         }
+        int gameMinutesTotal = simulation.getGameMinutes();
         int h = gameMinutesTotal / 60;
         int m = gameMinutesTotal % 60;
         int dispH = (12 + h) % 12;
@@ -193,10 +167,10 @@ public class GameController implements GameActions {
             view.setRoomText("");
             return;
         }
-        view.setRoomText("Room: " + prettifyRoomKey(roomKeys.get(currentRoomIndex)));
+        view.setRoomText("Room: " + prettifyRoomKey(roomKeys.get(simulation.getCurrentRoomIndex())));
     }
 
-    private static String prettifyRoomKey(String key) {
+    static String prettifyRoomKey(String key) {
         if (key == null || key.isBlank()) {
             return "";
         }
@@ -220,6 +194,7 @@ public class GameController implements GameActions {
         if (view == null) {
             return;
         }
+        int threatLevel = simulation.getThreatLevel();
         ThreatManager.ThreatViewModel vm = threatManager.toViewModel(threatLevel);
         double progress = Math.max(0.0, Math.min(1.0, threatLevel / 100.0));
         view.setThreat(vm, progress);
@@ -229,49 +204,9 @@ public class GameController implements GameActions {
         if (view == null || roomKeys.isEmpty()) {
             return;
         }
-        String roomKey = roomKeys.get(currentRoomIndex);
-        RoomState state = anomalyManager.getState(roomKey);
-        String mediaPath;
-        if (state != null && state.hasAnomaly && state.anomalyType != null) {
-            mediaPath = mediaLibrary.getRandomAnomaly(roomKey, state.anomalyType);
-        } else {
-            mediaPath = mediaLibrary.getRandomNormal(roomKey);
-        }
-        view.playLoopingMedia(mediaPath);
-    }
-
-    private void adjustThreat(int delta) {
-        threatLevel = threatManager.clamp(threatLevel + delta);
-        refreshThreatView();
-        if (threatLevel >= 100) {
-            startDeathCountdown();
-        } else {
-            stopDeathCountdown();
-        }
-    }
-
-    private void startDeathCountdown() {
-        if (deathCountdownActive) {
-            return;
-        }
-        deathCountdownActive = true;
-        if (deathCountdownTimeline != null) {
-            deathCountdownTimeline.stop();
-        }
-        deathCountdownTimeline = new Timeline(new KeyFrame(Duration.seconds(5), e -> {
-            if (threatLevel >= 100) {
-                triggerDeathJumpscare();
-            }
-        }));
-        deathCountdownTimeline.setCycleCount(1);
-        deathCountdownTimeline.play();
-    }
-
-    private void stopDeathCountdown() {
-        deathCountdownActive = false;
-        if (deathCountdownTimeline != null) {
-            deathCountdownTimeline.stop();
-        }
+        int currentRoomIndex = simulation.getCurrentRoomIndex();
+        view.playLoopingMedia(mediaPrefetcher.resolve(currentRoomIndex));
+        mediaPrefetcher.focus(currentRoomIndex);
     }
 
     private void triggerDeathJumpscare() {
@@ -279,12 +214,15 @@ public class GameController implements GameActions {
             return;
         }
         jumpscareActive = true;
-        stopDeathCountdown();
+        // The transition clip is layered over the room feed and would hide the jumpscare.
+        view.cancelTransition();
+        resetCameraTransition();
         stopAllTimelines();
         paused = true;
 
-        currentRoomIndex = (currentRoomIndex + 1) % roomKeys.size();
-        String roomKey = roomKeys.get(currentRoomIndex);
+        int jumpscareRoomIndex = (simulation.getCurrentRoomIndex() + 1) % roomKeys.size();
+        simulation.moveToRoom(jumpscareRoomIndex);
+        String roomKey = roomKeys.get(jumpscareRoomIndex);
         String jumpscarePath = mediaLibrary.getRandomJumpscare(roomKey);
         if (jumpscarePath == null) {
             showGameOver(false);
@@ -300,19 +238,29 @@ public class GameController implements GameActions {
         }
         jumpscareActive = false;
         view.stopMedia();
+        resetCameraTransition();
         stopAllTimelines();
         view.showGameOverOverlay(win);
     }
 
-    private void stopAllTimelines() {
-        if (gameTimeline != null) {
-            gameTimeline.stop();
-        }
-        if (anomalyTimeline != null) {
-            anomalyTimeline.stop();
+    /**
+     * stopMedia() and cancelTransition() cut a running camera transition short and drop its
+     * completion, so undo what navigateTo set up for it.
+     */
+    private void resetCameraTransition() {
+        cameraTransitionPlaying = false;
+        if (view != null) {
+            view.setNavButtonsDisabled(false);
         }
-        if (deathCountdownTimeline != null) {
-            deathCountdownTimeline.stop();
+    }
+
+    private void stopAllTimelines() {
+        cancel(gameTask);
+    }
+
+    private static void cancel(GameScheduler.Task task) {
+        if (task != null) {
+            task.cancel();
         }
     }
 
@@ -320,29 +268,25 @@ public class GameController implements GameActions {
         if (view == null) {
             return;
         }
-        if (reportCooldownTimeline != null) {
-            reportCooldownTimeline.stop();
-        }
+        cancel(reportCooldownTask);
         view.setReportButtonDisabled(true);
         final int[] secondsLeft = {REPORT_COOLDOWN_SECONDS};
         view.setReportCooldownText("Cooldown: " + secondsLeft[0] + "s");
-        reportCooldownTimeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
+        // Realtime like the report feedback: the cooldown keeps counting down while paused.
+        reportCooldownTask = scheduler.scheduleRealtimeRepeating(GameScheduler.TICKS_PER_SECOND, () -> {
             secondsLeft[0]--;
             if (secondsLeft[0] <= 0) {
-                reportCooldownTimeline.stop();
+                reportCooldownTask.cancel();
                 view.setReportButtonDisabled(false);
                 view.setReportCooldownText("");
             } else {
                 view.setReportCooldownText("Cooldown: " + secondsLeft[0] + "s");
             }
-        }));
-        reportCooldownTimeline.setCycleCount(REPORT_COOLDOWN_SECONDS);
-        reportCooldownTimeline.play();
+        });
     }
 
     private boolean isReportCooldownRunning() {
-        return reportCooldownTimeline != null
-                && reportCooldownTimeline.getStatus() == javafx.animation.Animation.Status.RUNNING;
+        return reportCooldownTask != null && reportCooldownTask.isActive();
     }
 
     private void closeReportOverlay(boolean startCooldown) {
@@ -357,33 +301,34 @@ public class GameController implements GameActions {
 
     @Override
     public void onPrevRoom() {
-        if (jumpscareActive || cameraTransitionPlaying || paused || roomKeys.isEmpty() || view == null) {
+        if (roomKeys.isEmpty()) {
             return;
         }
-        cameraTransitionPlaying = true;
-        view.setNavButtonsDisabled(true);
-        int targetIndex = (currentRoomIndex - 1 + roomKeys.size()) % roomKeys.size();
-        view.playOnceMedia(CAMERA_TRANSITION_PATH, () -> {
-            currentRoomIndex = targetIndex;
-            secondsOnCurrentRoom = 0;
-            playCurrentRoomMedia();
-            refreshRoomLabel();
-            cameraTransitionPlaying = false;
-            view.setNavButtonsDisabled(false);
-        });
+        navigateTo((simulation.getCurrentRoomIndex() - 1 + roomKeys.size()) % roomKeys.size());
     }
 
     @Override
     public void onNextRoom() {
-        if (jumpscareActive || cameraTransitionPlaying || paused || roomKeys.isEmpty() || view == null) {
+        if (roomKeys.isEmpty()) {
+            return;
+        }
+        navigateTo((simulation.getCurrentRoomIndex() + 1) % roomKeys.size());
+    }
+
+    private void navigateTo(int targetIndex) {
+        if (jumpscareActive || cameraTransitionPlaying || paused || view == null) {
             return;
         }
         cameraTransitionPlaying = true;
         view.setNavButtonsDisabled(true);
-        int targetIndex = (currentRoomIndex + 1) % roomKeys.size();
-        view.playOnceMedia(CAMERA_TRANSITION_PATH, () -> {
-            currentRoomIndex = targetIndex;
-            secondsOnCurrentRoom = 0;
+        // Swap the room feed underneath while the transition clip covers it.
+        view.playLoopingMedia(mediaPrefetcher.resolve(targetIndex));
+        view.playTransition(CAMERA_TRANSITION_PATH, () -> {
+            if (jumpscareActive) {
+                // Finished late, after the jumpscare took over the feed; it must not swap the room back in.
+                return;
+            }
+            simulation.moveToRoom(targetIndex);
             playCurrentRoomMedia();
             refreshRoomLabel();
             cameraTransitionPlaying = false;
@@ -397,16 +342,8 @@ public class GameController implements GameActions {
             return;
         }
         paused = true;
+        scheduler.setPaused(true);
         view.pauseMedia();
-        if (gameTimeline != null) {
-            gameTimeline.pause();
-        }
-        if (anomalyTimeline != null) {
-            anomalyTimeline.pause();
-        }
-        if (deathCountdownTimeline != null) {
-            deathCountdownTimeline.pause();
-        }
         view.showPauseOverlay();
     }
 
@@ -429,48 +366,25 @@ public class GameController implements GameActions {
         reportSubmissionInProgress = true;
         view.setReportTypeButtonsEnabled(false);
 
-        final int roomIndexAtReport = currentRoomIndex;
+        final int roomIndexAtReport = simulation.getCurrentRoomIndex();
         RoomMediaLibrary.AnomalyType selectedType = mapLabelToAnomalyType(label);
 
-        view.setReportStatus("Reporting...", "-fx-text-fill: #ffaa44; -fx-font-size: 20px; -fx-font-family: Arial;");
-
-        Timeline delay = new Timeline(new KeyFrame(Duration.seconds(3), e -> {
-            if (roomKeys.isEmpty()) {
-                adjustThreat(getMissAnomalyPenalty());
-                view.setReportStatus("NO ANOMALY FOUND", "-fx-text-fill: #ff5555; -fx-font-size: 20px; -fx-font-family: Arial;");
-                Timeline doneDelay = new Timeline(new KeyFrame(Duration.millis(1200), ev -> closeReportOverlay(true)));
-                doneDelay.setCycleCount(1);
-                doneDelay.play();
-                return;
-            }
+        view.setReportStatus("Reporting...", GameView.ReportStatus.PENDING);
 
-            String roomKey = roomKeys.get(roomIndexAtReport);
-            RoomState state = anomalyManager.getState(roomKey);
-            if (state == null || !state.hasAnomaly || selectedType == null || state.anomalyType != selectedType) {
-                adjustThreat(getMissAnomalyPenalty());
-                view.setReportStatus("NO ANOMALY FOUND", "-fx-text-fill: #ff5555; -fx-font-size: 20px; -fx-font-family: Arial;");
-                Timeline doneDelay = new Timeline(new KeyFrame(Duration.millis(1200), ev -> closeReportOverlay(true)));
-                doneDelay.setCycleCount(1);
-                doneDelay.play();
+        // Realtime, as with the old one-shot timelines: a pending report resolves even while paused.
+        scheduler.scheduleRealtime(REPORT_DELAY_TICKS, () -> {
+            if (!simulation.resolveReport(roomIndexAtReport, selectedType)) {
+                view.setReportStatus("NO ANOMALY FOUND", GameView.ReportStatus.FAILED);
+                scheduler.scheduleRealtime(REPORT_RESULT_TICKS, () -> closeReportOverlay(true));
                 return;
             }
 
-            state.hasAnomaly = false;
-            state.anomalyType = null;
-            state.anomalySecondsAlive = 0;
-            state.penaltyApplied = false;
-
-            adjustThreat(getCorrectReportDelta());
-            if (currentRoomIndex == roomIndexAtReport) {
+            if (simulation.getCurrentRoomIndex() == roomIndexAtReport) {
                 playCurrentRoomMedia();
             }
-            view.setReportStatus("ANOMALY REMOVED", "-fx-text-fill: #88ff88; -fx-font-size: 20px; -fx-font-family: Arial;");
-            Timeline doneDelay = new Timeline(new KeyFrame(Duration.millis(1200), ev -> closeReportOverlay(true)));
-            doneDelay.setCycleCount(1);
-            doneDelay.play();
-        }));
-        delay.setCycleCount(1);
-        delay.play();
+            view.setReportStatus("ANOMALY REMOVED", GameView.ReportStatus.SUCCESS);
+            scheduler.scheduleRealtime(REPORT_RESULT_TICKS, () -> closeReportOverlay(true));
+        });
     }
 
     @Override
@@ -489,15 +403,7 @@ public class GameController implements GameActions {
         paused = false;
         view.hidePauseOverlay();
         view.resumeMedia();
-        if (gameTimeline != null) {
-            gameTimeline.play();
-        }
-        if (anomalyTimeline != null) {
-            anomalyTimeline.play();
-        }
-        if (deathCountdownTimeline != null && deathCountdownActive) {
-            deathCountdownTimeline.play();
-        }
+        scheduler.setPaused(false);
     }
 
     @Override
@@ -528,14 +434,10 @@ public class GameController implements GameActions {
     public void shutdown() {
         reportSubmissionInProgress = false;
         paused = false;
-        cameraTransitionPlaying = false;
         jumpscareActive = false;
-        deathCountdownActive = false;
 
-        if (reportCooldownTimeline != null) {
-            reportCooldownTimeline.stop();
-        }
-        stopAllTimelines();
+        scheduler.cancelAll();
+        pulseTimeline.stop();
         if (view != null) {
             view.hideReportOverlay();
             view.hidePauseOverlay();
@@ -544,38 +446,7 @@ public class GameController implements GameActions {
             view.setReportCooldownText("");
             view.setReportButtonDisabled(false);
         }
-    }
-
-    private double getAnomalySpawnChance() {
-        return switch (difficulty) {
-            case EASY -> 0.3;
-            case HARD -> 0.8;
-            case MEDIUM -> 0.5;
-        };
-    }
-
-    private int getMissAnomalyPenalty() {
-        return switch (difficulty) {
-            case EASY -> 5;
-            case HARD -> 15;
-            case MEDIUM -> 10;
-        };
-    }
-
-    private int getCorrectReportDelta() {
-        return switch (difficulty) {
-            case EASY -> -5;
-            case HARD -> 0;
-            case MEDIUM -> -3;
-        };
-    }
-
-    private int getDelayBeforePenaltySeconds() {
-        return switch (difficulty) {
-            case EASY -> 15;
-            case HARD -> 5;
-            case MEDIUM -> 10;
-        };
+        resetCameraTransition();
     }
 
     private RoomMediaLibrary.AnomalyType mapLabelToAnomalyType(String label) {
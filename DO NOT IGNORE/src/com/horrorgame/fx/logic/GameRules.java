@@ -0,0 +1,27 @@
+package com.horrorgame.fx.logic;
+
+import com.horrorgame.fx.DifficultyLevel;
+
+/**
+ * Difficulty-dependent tuning values used by {@link GameSimulation}.
+ *
+ * @param anomalySpawnChance        chance that an anomaly tick spawns a new anomaly
+ * @param missAnomalyPenalty        threat added per missed anomaly or wrong report
+ * @param correctReportDelta        threat change for a correct report
+ * @param delayBeforePenaltySeconds anomaly ticks an anomaly survives before it counts as missed
+ */
+public record GameRules(
+        double anomalySpawnChance,
+        int missAnomalyPenalty,
+        int correctReportDelta,
+        int delayBeforePenaltySeconds
+) {
+
+    public static GameRules forDifficulty(DifficultyLevel difficulty) {
+        return switch (difficulty) {
+            case EASY -> new GameRules(0.3, 5, -5, 15);
+            case HARD -> new GameRules(0.8, 15, 0, 5);
+            case MEDIUM -> new GameRules(0.5, 10, -3, 10);
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.horrorgame.fx.logic;
+
+import java.util.PriorityQueue;
+
+/**
+ * Fixed-step scheduler that drives every game-time event from a single pulse.
+ * UI-free: the owner calls {@link #advance()} once per {@link #STEP_MILLIS} (the JavaFX game uses
+ * one {@code Timeline} for this). Events due on the same step run in the order they were
+ * scheduled, so runs are deterministic, and {@link #setPaused(boolean)} freezes all game-time
+ * events at once. Realtime events (see {@link #scheduleRealtime}) keep running while paused.
+ */
+public class GameScheduler {
+
+    public static final int STEP_MILLIS = 100;
+    public static final int TICKS_PER_SECOND = 1000 / STEP_MILLIS;
+
+    private final Lane gameTime = new Lane();
+    private final Lane realtime = new Lane();
+    private long nextSequence;
+    private boolean paused;
+
+    /**
+     * Runs the action once, {@code delayTicks} game-time steps from now.
+     */
+    public Task schedule(int delayTicks, Runnable action) {
+        return enqueue(gameTime, new Task(action, 0), Math.max(1, delayTicks));
+    }
+
+    /**
+     * Runs the action every {@code periodTicks} game-time steps, starting one period from now.
+     */
+    public Task scheduleRepeating(int periodTicks, Runnable action) {
+        int period = Math.max(1, periodTicks);
+        return enqueue(gameTime, new Task(action, period), period);
+    }
+
+    /**
+     * Like {@link #schedule}, but the delay also elapses while the scheduler is paused, e.g. for
+     * UI feedback such as report results.
+     */
+    public Task scheduleRealtime(int delayTicks, Runnable action) {
+        return enqueue(realtime, new Task(action, 0), Math.max(1, delayTicks));
+    }
+
+    /**
+     * Like {@link #scheduleRepeating}, but keeps running while the scheduler is paused.
+     */
+    public Task scheduleRealtimeRepeating(int periodTicks, Runnable action) {
+        int period = Math.max(1, periodTicks);
+        return enqueue(realtime, new Task(action, period), period);
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Cancels every pending event and resumes the scheduler.
+     */
+    public void cancelAll() {
+        gameTime.cancelAll();
+        realtime.cancelAll();
+        paused = false;
+    }
+
+    public boolean hasPendingTasks() {
+        return !gameTime.queue.isEmpty() || !realtime.queue.isEmpty();
+    }
+
+    /**
+     * Advances by one step: realtime events always, game-time events unless paused.
+     */
+    public void advance() {
+        if (!paused) {
+            gameTime.currentTick++;
+            runDue(gameTime, true);
+        }
+        realtime.currentTick++;
+        runDue(realtime, false);
+    }
+
+    private void runDue(Lane lane, boolean stopOnPause) {
+        while (!lane.queue.isEmpty() && lane.queue.peek().dueTick <= lane.currentTick) {
+            Task task = lane.queue.poll();
+            if (task.cancelled) {
+                continue;
+            }
+            if (task.periodTicks > 0) {
+                enqueue(lane, task, task.periodTicks);
+            } else {
+                task.cancelled = true;
+            }
+            task.action.run();
+            if (stopOnPause && paused) {
+                // An event paused the game; the rest of this step waits for resume.
+                return;
+            }
+        }
+    }
+
+    private Task enqueue(Lane lane, Task task, int delayTicks) {
+        task.dueTick = lane.currentTick + delayTicks;
+        task.sequence = nextSequence++;
+        lane.queue.add(task);
+        return task;
+    }
+
+    /**
+     * Events sharing one clock: game time stops while paused, realtime does not.
+     */
+    private static final class Lane {
+        final PriorityQueue<Task> queue = new PriorityQueue<>();
+        long currentTick;
+
+        void cancelAll() {
+            for (Task task : queue) {
+                task.cancelled = true;
+            }
+            queue.clear();
+        }
+    }
+
+    /**
+     * Handle to a scheduled event.
+     */
+    public static final class Task implements Comparable<Task> {
+        private final Runnable action;
+        private final int periodTicks;
+        private long dueTick;
+        private long sequence;
+        private boolean cancelled;
+
+        private Task(Runnable action, int periodTicks) {
+            this.action = action;
+            this.periodTicks = periodTicks;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isActive() {
+            return !cancelled;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+        }
+    }
+}
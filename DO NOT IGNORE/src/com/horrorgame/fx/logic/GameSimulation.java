@@ -0,0 +1,223 @@
+package com.horrorgame.fx.logic;
+
+import com.horrorgame.fx.DifficultyLevel;
+import com.horrorgame.game.RoomMediaLibrary;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * UI-free rules of one night shift, advanced one game second per {@link #tick()}.
+ * {@link GameController} drives it from its scheduler and renders the {@link Listener} events;
+ * headless callers (e.g. difficulty balancing) can call {@code tick()} in a tight loop,
+ * a full night being {@link #NIGHT_LENGTH_MINUTES} ticks.
+ */
+public class GameSimulation {
+
+    public static final int NIGHT_LENGTH_MINUTES = 360;
+    public static final int ANOMALY_START_MINUTE = 30;
+    public static final int ANOMALY_TICK_SECONDS = 5;
+    public static final int AUTO_ADVANCE_SECONDS = 20;
+    public static final int AUTO_ADVANCE_THREAT = 3;
+    public static final int DEATH_COUNTDOWN_SECONDS = 5;
+
+    /**
+     * Outcomes the UI needs to react to. All callbacks run synchronously inside simulation calls.
+     */
+    public interface Listener {
+        default void onTimeChanged(int gameMinutes) {
+        }
+
+        /** The camera auto-advanced to another room. */
+        default void onRoomChanged(int roomIndex) {
+        }
+
+        default void onThreatChanged(int threatLevel) {
+        }
+
+        /** The anomaly in the room on screen expired, so its feed should go back to normal. */
+        default void onCurrentRoomCleared() {
+        }
+
+        default void onNightSurvived() {
+        }
+
+        default void onDeath() {
+        }
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {
+    };
+
+    private final List<String> roomKeys;
+    private final ThreatManager threatManager;
+    private final AnomalyManager anomalyManager;
+    private final Random random;
+
+    private Listener listener = NO_LISTENER;
+    private GameRules rules = GameRules.forDifficulty(DifficultyLevel.MEDIUM);
+
+    private int currentRoomIndex;
+    private int gameMinutesTotal;
+    private int secondsOnCurrentRoom;
+    private int threatLevel;
+    private int deathCountdownSeconds;
+    private boolean deathCountdownActive;
+    private boolean over;
+
+    public GameSimulation(List<String> roomKeys, ThreatManager threatManager, AnomalyManager anomalyManager, Random random) {
+        this.roomKeys = roomKeys;
+        this.threatManager = threatManager;
+        this.anomalyManager = anomalyManager;
+        this.random = random;
+    }
+
+    /**
+     * Builds a simulation with its own managers and a seeded random source, for runs without any UI.
+     */
+    public static GameSimulation headless(RoomMediaLibrary mediaLibrary, long seed) {
+        Random random = new Random(seed);
+        List<String> roomKeys = mediaLibrary.getRoomKeys();
+        AnomalyManager anomalyManager = new AnomalyManager(mediaLibrary, roomKeys, new Random(random.nextLong()));
+        return new GameSimulation(roomKeys, new ThreatManager(), anomalyManager, random);
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    /**
+     * Resets all state and begins a new night in the given room.
+     */
+    public void start(GameRules rules, int startRoomIndex) {
+        this.rules = rules;
+        anomalyManager.reset();
+        currentRoomIndex = startRoomIndex;
+        gameMinutesTotal = 0;
+        secondsOnCurrentRoom = 0;
+        threatLevel = 0;
+        deathCountdownActive = false;
+        deathCountdownSeconds = 0;
+        over = false;
+    }
+
+    /**
+     * Advances the night by one game second (one in-game minute).
+     */
+    public void tick() {
+        if (over) {
+            return;
+        }
+        if (deathCountdownActive && --deathCountdownSeconds <= 0) {
+            deathCountdownActive = false;
+            if (threatLevel >= ThreatManager.MAX) {
+                over = true;
+                listener.onDeath();
+                return;
+            }
+        }
+
+        gameMinutesTotal++;
+        listener.onTimeChanged(gameMinutesTotal);
+
+        secondsOnCurrentRoom++;
+        if (secondsOnCurrentRoom >= AUTO_ADVANCE_SECONDS) {
+            secondsOnCurrentRoom = 0;
+            if (!roomKeys.isEmpty()) {
+                currentRoomIndex = (currentRoomIndex + 1) % roomKeys.size();
+                listener.onRoomChanged(currentRoomIndex);
+                adjustThreat(AUTO_ADVANCE_THREAT);
+            }
+        }
+
+        if (gameMinutesTotal >= NIGHT_LENGTH_MINUTES) {
+            over = true;
+            listener.onNightSurvived();
+            return;
+        }
+
+        if (gameMinutesTotal % ANOMALY_TICK_SECONDS == 0) {
+            tickAnomalies();
+        }
+    }
+
+    private void tickAnomalies() {
+        if (gameMinutesTotal < ANOMALY_START_MINUTE || roomKeys.isEmpty()) {
+            return;
+        }
+
+        boolean currentHadAnomaly = anomalyManager.hasAnomaly(currentRoomIndex);
+
+        int misses = anomalyManager.tickExistingAnomalies(rules.delayBeforePenaltySeconds(), currentRoomIndex);
+        if (misses > 0) {
+            adjustThreat(rules.missAnomalyPenalty() * misses);
+        }
+
+        if (currentHadAnomaly && !anomalyManager.hasAnomaly(currentRoomIndex)) {
+            listener.onCurrentRoomCleared();
+        }
+
+        if (random.nextDouble() > rules.anomalySpawnChance()) {
+            return;
+        }
+        anomalyManager.spawnAnomalyExcludingCurrent(currentRoomIndex);
+    }
+
+    /**
+     * The player switched cameras.
+     */
+    public void moveToRoom(int roomIndex) {
+        currentRoomIndex = roomIndex;
+        secondsOnCurrentRoom = 0;
+    }
+
+    /**
+     * Applies a report against a room. A matching anomaly is removed and rewarded;
+     * anything else costs the miss penalty. Returns whether an anomaly was removed.
+     */
+    public boolean resolveReport(int roomIndex, RoomMediaLibrary.AnomalyType reportedType) {
+        if (roomKeys.isEmpty() || reportedType == null || anomalyManager.getAnomalyType(roomIndex) != reportedType) {
+            adjustThreat(rules.missAnomalyPenalty());
+            return false;
+        }
+        anomalyManager.clearAnomaly(roomIndex);
+        adjustThreat(rules.correctReportDelta());
+        return true;
+    }
+
+    private void adjustThreat(int delta) {
+        threatLevel = threatManager.clamp(threatLevel + delta);
+        listener.onThreatChanged(threatLevel);
+        if (threatLevel >= ThreatManager.MAX) {
+            if (!deathCountdownActive) {
+                deathCountdownActive = true;
+                deathCountdownSeconds = DEATH_COUNTDOWN_SECONDS;
+            }
+        } else {
+            deathCountdownActive = false;
+        }
+    }
+
+    public AnomalyManager getAnomalyManager() {
+        return anomalyManager;
+    }
+
+    public int getRoomCount() {
+        return roomKeys.size();
+    }
+
+    public int getCurrentRoomIndex() {
+        return currentRoomIndex;
+    }
+
+    public int getGameMinutes() {
+        return gameMinutesTotal;
+    }
+
+    public int getThreatLevel() {
+        return threatLevel;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+}
@@ -0,0 +1,116 @@
+package com.horrorgame.fx.logic;
+
+import com.horrorgame.fx.ui.GameView;
+import com.horrorgame.game.RoomMediaLibrary;
+import java.util.List;
+
+/**
+ * Decides which clip each room will show and warms it up in the view before the player gets there.
+ * Navigation only ever moves one room at a time (prev/next and the 20 s auto-advance), so the
+ * neighbours of the current room are kept prepared. Anomaly changes in those rooms re-resolve
+ * and preload the new clip straight away.
+ */
+public class MediaPrefetcher implements AnomalyManager.Listener {
+
+    private final RoomMediaLibrary mediaLibrary;
+    private final List<String> roomKeys;
+    private final AnomalyManager anomalyManager;
+
+    // Clip chosen for each room and the anomaly type it was chosen for (null = normal feed).
+    private final String[] resolvedPaths;
+    private final RoomMediaLibrary.AnomalyType[] resolvedTypes;
+    private final boolean[] resolved;
+
+    private GameView view;
+    private int currentRoomIndex = -1;
+
+    public MediaPrefetcher(RoomMediaLibrary mediaLibrary, List<String> roomKeys, AnomalyManager anomalyManager) {
+        this.mediaLibrary = mediaLibrary;
+        this.roomKeys = roomKeys;
+        this.anomalyManager = anomalyManager;
+        this.resolvedPaths = new String[roomKeys.size()];
+        this.resolvedTypes = new RoomMediaLibrary.AnomalyType[roomKeys.size()];
+        this.resolved = new boolean[roomKeys.size()];
+    }
+
+    public void attachView(GameView view) {
+        this.view = view;
+    }
+
+    public void reset() {
+        currentRoomIndex = -1;
+        for (int i = 0; i < resolved.length; i++) {
+            invalidate(i);
+        }
+    }
+
+    /**
+     * Returns the clip the room should show for its current anomaly state.
+     * The choice is kept until the state changes or the player leaves the room, so a prefetched
+     * clip is exactly the one that gets played.
+     */
+    public String resolve(int roomIndex) {
+        String roomKey = roomKeys.get(roomIndex);
+        RoomMediaLibrary.AnomalyType type = anomalyManager.getAnomalyType(roomIndex);
+        if (resolved[roomIndex] && resolvedTypes[roomIndex] == type) {
+            return resolvedPaths[roomIndex];
+        }
+        String path = type != null
+                ? mediaLibrary.getRandomAnomaly(roomKey, type)
+                : mediaLibrary.getRandomNormal(roomKey);
+        resolvedPaths[roomIndex] = path;
+        resolvedTypes[roomIndex] = type;
+        resolved[roomIndex] = true;
+        return path;
+    }
+
+    /**
+     * Called when the camera settles on a room: prepares both neighbours.
+     */
+    public void focus(int roomIndex) {
+        if (roomIndex == currentRoomIndex) {
+            return;
+        }
+        if (currentRoomIndex >= 0) {
+            // Pick a fresh normal take for the room we just left the next time it is resolved.
+            invalidate(currentRoomIndex);
+        }
+        currentRoomIndex = roomIndex;
+        preload(previousOf(roomIndex));
+        preload(nextOf(roomIndex));
+    }
+
+    /**
+     * Warms up the clip of a room the player is about to see, e.g. the target of a camera transition.
+     */
+    public void preload(int roomIndex) {
+        if (view == null || roomIndex < 0 || roomIndex >= roomKeys.size()) {
+            return;
+        }
+        view.preloadMedia(resolve(roomIndex));
+    }
+
+    @Override
+    public void onRoomStateChanged(int roomIndex) {
+        invalidate(roomIndex);
+        if (currentRoomIndex >= 0
+                && roomIndex != currentRoomIndex
+                && (roomIndex == previousOf(currentRoomIndex) || roomIndex == nextOf(currentRoomIndex))) {
+            preload(roomIndex);
+        }
+    }
+
+    private void invalidate(int roomIndex) {
+        resolved[roomIndex] = false;
+        resolvedPaths[roomIndex] = null;
+        resolvedTypes[roomIndex] = null;
+    }
+
+    private int previousOf(int roomIndex) {
+        return (roomIndex - 1 + roomKeys.size()) % roomKeys.size();
+    }
+
+    private int nextOf(int roomIndex) {
+        return (roomIndex + 1) % roomKeys.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.horrorgame.fx.logic;
+
+import java.util.Arrays;
+
+/**
+ * Set of room indices with O(1) add, remove, membership and access by position,
+ * so a uniformly random member can be drawn in constant time.
+ * Members are packed at the front of an array; removal moves the last member into the gap.
+ */
+final class RoomIndexSet {
+
+    private final int[] members;
+    private final int[] positions;
+    private int size;
+
+    RoomIndexSet(int capacity) {
+        members = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int roomIndex) {
+        return positions[roomIndex] >= 0;
+    }
+
+    /**
+     * Member at a position in {@code [0, size())}. Positions change when members are removed.
+     */
+    int get(int position) {
+        return members[position];
+    }
+
+    int positionOf(int roomIndex) {
+        return positions[roomIndex];
+    }
+
+    void add(int roomIndex) {
+        if (positions[roomIndex] >= 0) {
+            return;
+        }
+        members[size] = roomIndex;
+        positions[roomIndex] = size;
+        size++;
+    }
+
+    void remove(int roomIndex) {
+        int position = positions[roomIndex];
+        if (position < 0) {
+            return;
+        }
+        int last = members[--size];
+        members[position] = last;
+        positions[last] = position;
+        positions[roomIndex] = -1;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[members[i]] = -1;
+        }
+        size = 0;
+    }
+}
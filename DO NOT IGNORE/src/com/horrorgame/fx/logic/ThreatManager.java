@@ -12,25 +12,47 @@ public class ThreatManager {
         return Math.max(MIN, Math.min(MAX, value));
     }
 
+    /**
+     * Returns the shared view model of the band {@code threatLevel} falls in; no allocation.
+     * Views can compare its band to restyle only when the band changes.
+     */
     public ThreatViewModel toViewModel(int threatLevel) {
-        String text;
-        String css;
-        if (threatLevel < 25) {
-            text = "THREAT: LOW";
-            css = "-fx-text-fill: #88ff88; -fx-font-size: 18px; -fx-font-family: Arial; -fx-font-weight: bold;";
-        } else if (threatLevel < 50) {
-            text = "THREAT: UNSTABLE";
-            css = "-fx-text-fill: #ffff88; -fx-font-size: 18px; -fx-font-family: Arial; -fx-font-weight: bold;";
-        } else if (threatLevel < 75) {
-            text = "THREAT: HIGH";
-            css = "-fx-text-fill: #ffaa44; -fx-font-size: 18px; -fx-font-family: Arial; -fx-font-weight: bold;";
-        } else {
-            text = "THREAT: CRITICAL";
-            css = "-fx-text-fill: #ff5555; -fx-font-size: 18px; -fx-font-family: Arial; -fx-font-weight: bold;";
+        return ThreatBand.of(threatLevel).viewModel();
+    }
+
+    /**
+     * Threat bands, each with the label text and CSS pseudo-class (see {@code game.css}) it is shown with.
+     */
+    public enum ThreatBand {
+        LOW(25, "THREAT: LOW", "low"),
+        UNSTABLE(50, "THREAT: UNSTABLE", "unstable"),
+        HIGH(75, "THREAT: HIGH", "high"),
+        CRITICAL(Integer.MAX_VALUE, "THREAT: CRITICAL", "critical");
+
+        private static final ThreatBand[] BANDS = values();
+
+        // First threat level that no longer belongs to this band.
+        private final int upperBound;
+        private final ThreatViewModel viewModel;
+
+        ThreatBand(int upperBound, String labelText, String pseudoClass) {
+            this.upperBound = upperBound;
+            this.viewModel = new ThreatViewModel(this, labelText, pseudoClass);
+        }
+
+        public static ThreatBand of(int threatLevel) {
+            for (ThreatBand band : BANDS) {
+                if (threatLevel < band.upperBound) {
+                    return band;
+                }
+            }
+            return CRITICAL;
+        }
+
+        public ThreatViewModel viewModel() {
+            return viewModel;
         }
-        return new ThreatViewModel(text, css);
     }
 
-    public record ThreatViewModel(String labelText, String css) {}
+    public record ThreatViewModel(ThreatBand band, String labelText, String pseudoClass) {}
 }
-
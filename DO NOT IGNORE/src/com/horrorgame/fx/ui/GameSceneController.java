@@ -28,11 +28,19 @@ import javafx.util.Duration;
  */
 public class GameSceneController implements GameView {
 
+    private static final String GAME_STYLESHEET = GameSceneController.class.getResource("game.css").toExternalForm();
+
     private final GameActions actions;
 
+    private final MediaPlayerPool playerPool = new MediaPlayerPool();
     private MediaPlayer mediaPlayer;
     private MediaView mediaView;
 
+    // Camera transition clip: permanently resident and layered over the room feed.
+    private MediaPlayer transitionPlayer;
+    private String transitionPath;
+    private MediaView transitionView;
+
     private StackPane gameRoot;
     private StackPane reportOverlay;
     private StackPane pauseOverlay;
@@ -41,6 +49,7 @@ public class GameSceneController implements GameView {
     private Label timeLabelGame;
     private Label roomLabelGame;
     private Label threatLabelGame;
+    private ThreatManager.ThreatBand shownThreatBand;
     private ProgressBar threatBarGame;
 
     private Button pauseButtonGame;
@@ -51,6 +60,7 @@ public class GameSceneController implements GameView {
     private Button nextButton;
 
     private Label reportStatusLabel;
+    private ReportStatus shownReportStatus;
     private Button[] reportTypeButtons;
 
     private static final String[] REPORT_ANOMALY_TYPES = {
@@ -74,42 +84,33 @@ public class GameSceneController implements GameView {
 
         StackPane root = new StackPane();
         gameRoot = root;
-        root.setStyle("-fx-background-color: black;");
+        root.getStyleClass().add("game-root");
         root.getChildren().add(mediaView);
 
+        transitionView = new MediaView();
+        transitionView.setPreserveRatio(false);
+        transitionView.setVisible(false);
+        transitionView.setMouseTransparent(true);
+        root.getChildren().add(transitionView);
+
         BorderPane overlay = new BorderPane();
         overlay.setPickOnBounds(false);
 
         timeLabelGame = new Label("12:00 AM");
-        timeLabelGame.setStyle("-fx-text-fill: #ff4444; -fx-font-size: 32px; -fx-font-family: Arial; -fx-font-weight: bold;");
+        timeLabelGame.getStyleClass().add("time-label");
 
         roomLabelGame = new Label();
-        roomLabelGame.setStyle(
-                "-fx-text-fill: #e6e6e6;" +
-                "-fx-font-size: 16px;" +
-                "-fx-font-family: Arial;" +
-                "-fx-background-color: rgba(255,255,255,0.08);" +
-                "-fx-padding: 6 12 6 12;" +
-                "-fx-background-radius: 12;" +
-                "-fx-border-color: rgba(255,255,255,0.18);" +
-                "-fx-border-width: 1;" +
-                "-fx-border-radius: 12;"
-        );
+        roomLabelGame.getStyleClass().add("room-label");
 
         threatLabelGame = new Label();
-        threatLabelGame.setStyle("-fx-text-fill: #ffcc66; -fx-font-size: 18px; -fx-font-family: Arial; -fx-font-weight: bold;");
+        threatLabelGame.getStyleClass().add("threat-label");
 
         threatBarGame = new ProgressBar(0);
         threatBarGame.setPrefWidth(140);
         threatBarGame.setPrefHeight(10);
         threatBarGame.setMinHeight(10);
         threatBarGame.setMaxHeight(10);
-        threatBarGame.setStyle(
-                "-fx-accent: #ff5555;" +
-                "-fx-control-inner-background: rgba(255,255,255,0.12);" +
-                "-fx-background-insets: 0;" +
-                "-fx-background-radius: 6;"
-        );
+        threatBarGame.getStyleClass().add("threat-bar");
         // Keep internally but hide visually (per UX request)
         threatBarGame.setManaged(false);
         threatBarGame.setVisible(false);
@@ -120,10 +121,7 @@ public class GameSceneController implements GameView {
 
         HBox topContainer = new HBox(24, timeLabelGame, roomLabelGame, threatLabelGame);
         topContainer.setPadding(new javafx.geometry.Insets(12, 24, 12, 24));
-        topContainer.setStyle(
-                "-fx-background-color: rgba(0,0,0,0.72);" +
-                "-fx-background-radius: 0 0 16 0;"
-        );
+        topContainer.getStyleClass().add("hud-bar");
 
         HBox topRight = new HBox(pauseButtonGame);
         topRight.setAlignment(Pos.TOP_RIGHT);
@@ -139,21 +137,12 @@ public class GameSceneController implements GameView {
         nextButton = new Button(">");
         reportButtonGame = new Button("REPORT ANOMALY");
         reportCooldownLabel = new Label("");
-        reportCooldownLabel.setStyle("-fx-text-fill: #ffaaaa; -fx-font-size: 14px; -fx-font-family: Arial;");
+        reportCooldownLabel.getStyleClass().add("cooldown-label");
 
         styleNavButton(prevButton);
         styleNavButton(nextButton);
-        styleControlButton(reportButtonGame);
-
-        reportButtonGame.setStyle(
-                "-fx-background-color: linear-gradient(#aa0000,#400000);" +
-                "-fx-text-fill: #ffdede;" +
-                "-fx-font-size: 22px;" +
-                "-fx-font-family: 'Chiller';" +
-                "-fx-font-weight: bold;" +
-                "-fx-background-radius: 18;" +
-                "-fx-effect: dropshadow(gaussian, rgba(255,0,0,0.6), 20, 0.4, 0, 0);"
-        );
+
+        reportButtonGame.getStyleClass().add("report-button");
         reportButtonGame.setPrefWidth(320);
 
         prevButton.setOnAction(e -> actions.onPrevRoom());
@@ -162,11 +151,11 @@ public class GameSceneController implements GameView {
 
         VBox leftBox = new VBox(prevButton);
         leftBox.setAlignment(Pos.CENTER_LEFT);
-        leftBox.setStyle("-fx-padding: 0 0 0 30;");
+        leftBox.getStyleClass().add("nav-left");
 
         VBox rightBox = new VBox(nextButton);
         rightBox.setAlignment(Pos.CENTER_RIGHT);
-        rightBox.setStyle("-fx-padding: 0 30 0 0;");
+        rightBox.getStyleClass().add("nav-right");
 
         overlay.setLeft(leftBox);
         overlay.setRight(rightBox);
@@ -176,22 +165,22 @@ public class GameSceneController implements GameView {
         reportButtonContainer.getChildren().addAll(reportCooldownLabel, reportButtonGame);
         HBox bottomBar = new HBox(reportButtonContainer);
         bottomBar.setAlignment(Pos.CENTER);
-        bottomBar.setStyle("-fx-padding: 0 0 40 0;");
+        bottomBar.getStyleClass().add("bottom-bar");
         overlay.setBottom(bottomBar);
 
         StackPane vignette = new StackPane();
         vignette.setMouseTransparent(true);
-        vignette.setStyle(
-                "-fx-background-color: radial-gradient(center 50% 50%, radius 80%, " +
-                "rgba(0,0,0,0.0), rgba(0,0,0,0.75));"
-        );
+        vignette.getStyleClass().add("vignette");
 
         root.getChildren().add(vignette);
         root.getChildren().add(overlay);
 
         Scene scene = new Scene(root, 1280, 720);
+        scene.getStylesheets().add(GAME_STYLESHEET);
         mediaView.fitWidthProperty().bind(scene.widthProperty());
         mediaView.fitHeightProperty().bind(scene.heightProperty());
+        transitionView.fitWidthProperty().bind(scene.widthProperty());
+        transitionView.fitHeightProperty().bind(scene.heightProperty());
         return scene;
     }
 
@@ -211,9 +200,14 @@ public class GameSceneController implements GameView {
 
     @Override
     public void setThreat(ThreatManager.ThreatViewModel vm, double progress) {
-        if (threatLabelGame != null && vm != null) {
+        // Restyle only when the band changes, not on every threat tick.
+        if (threatLabelGame != null && vm != null && vm.band() != shownThreatBand) {
             threatLabelGame.setText(vm.labelText());
-            threatLabelGame.setStyle(vm.css());
+            if (shownThreatBand != null) {
+                threatLabelGame.pseudoClassStateChanged(StatePseudoClasses.of(shownThreatBand), false);
+            }
+            threatLabelGame.pseudoClassStateChanged(StatePseudoClasses.of(vm.band()), true);
+            shownThreatBand = vm.band();
         }
         if (threatBarGame != null) {
             threatBarGame.setProgress(progress);
@@ -222,65 +216,156 @@ public class GameSceneController implements GameView {
 
     @Override
     public void playLoopingMedia(String resourcePath) {
-        if (resourcePath == null) {
+        MediaPlayer player = resourcePath == null ? null : playerPool.acquire(resourcePath);
+        if (player == null) {
             stopMedia();
             return;
         }
-        URL resource = getClass().getResource(resourcePath);
-        if (resource == null) {
-            stopMedia();
+        showPlayer(player, MediaPlayer.INDEFINITE, null);
+    }
+
+    @Override
+    public void playOnceMedia(String resourcePath, Runnable onFinished) {
+        MediaPlayer player = resourcePath == null ? null : playerPool.acquire(resourcePath);
+        if (player == null) {
+            if (onFinished != null) {
+                Platform.runLater(onFinished);
+            }
             return;
         }
-        String uri = resource.toExternalForm();
-        stopMedia();
-        Media media = new Media(uri);
-        mediaPlayer = new MediaPlayer(media);
-        mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-        mediaView.setMediaPlayer(mediaPlayer);
-        mediaPlayer.play();
+        showPlayer(player, 1, onFinished);
     }
 
     @Override
-    public void playOnceMedia(String resourcePath, Runnable onFinished) {
-        if (resourcePath == null) {
+    public void preloadMedia(String resourcePath) {
+        if (resourcePath != null) {
+            playerPool.acquire(resourcePath);
+        }
+    }
+
+    @Override
+    public void prepareTransition(String resourcePath) {
+        if (transitionPlayer != null && transitionPath.equals(resourcePath)) {
+            return;
+        }
+        disposeTransition();
+        URL resource = resourcePath == null ? null : getClass().getResource(resourcePath);
+        if (resource == null || transitionView == null) {
+            return;
+        }
+        transitionPlayer = new MediaPlayer(new Media(resource.toExternalForm()));
+        transitionPlayer.setCycleCount(1);
+        transitionPath = resourcePath;
+        transitionView.setMediaPlayer(transitionPlayer);
+    }
+
+    @Override
+    public void playTransition(String resourcePath, Runnable onFinished) {
+        prepareTransition(resourcePath);
+        if (transitionPlayer == null) {
             if (onFinished != null) {
                 Platform.runLater(onFinished);
             }
             return;
         }
-        URL resource = getClass().getResource(resourcePath);
-        if (resource == null) {
+        transitionPlayer.setOnEndOfMedia(() -> {
+            endTransition();
             if (onFinished != null) {
                 Platform.runLater(onFinished);
             }
+        });
+        transitionPlayer.stop();
+        transitionView.setVisible(true);
+        transitionPlayer.play();
+    }
+
+    /**
+     * Stops and hides a running transition clip without running its completion, leaving the room
+     * feed underneath as it is.
+     */
+    @Override
+    public void cancelTransition() {
+        endTransition();
+    }
+
+    /**
+     * Hides the transition clip. A transition ended here rather than by reaching its end (e.g. by
+     * stopMedia or cancelTransition) never runs its completion; the caller resets its own transition state.
+     */
+    private void endTransition() {
+        if (transitionPlayer != null) {
+            transitionPlayer.setOnEndOfMedia(null);
+            transitionPlayer.stop();
+        }
+        if (transitionView != null) {
+            transitionView.setVisible(false);
+        }
+    }
+
+    private void disposeTransition() {
+        if (transitionPlayer != null) {
+            endTransition();
+            transitionView.setMediaPlayer(null);
+            transitionPlayer.dispose();
+            transitionPlayer = null;
+            transitionPath = null;
+        }
+    }
+
+    private boolean isTransitionPlaying() {
+        return transitionView != null && transitionView.isVisible() && transitionPlayer != null;
+    }
+
+    private void showPlayer(MediaPlayer player, int cycleCount, Runnable onFinished) {
+        if (player == mediaPlayer && cycleCount == MediaPlayer.INDEFINITE && onFinished == null
+                && player.getCycleCount() == MediaPlayer.INDEFINITE
+                && player.getStatus() == MediaPlayer.Status.PLAYING) {
+            // Already looping this clip, e.g. it was swapped in underneath a camera transition.
             return;
         }
-        String uri = resource.toExternalForm();
-        stopMedia();
-        Media media = new Media(uri);
-        mediaPlayer = new MediaPlayer(media);
-        mediaPlayer.setCycleCount(1);
-        mediaView.setMediaPlayer(mediaPlayer);
-        if (onFinished != null) {
-            mediaPlayer.setOnEndOfMedia(() -> Platform.runLater(onFinished));
+        if (mediaPlayer != null && mediaPlayer != player) {
+            mediaPlayer.pause();
         }
-        mediaPlayer.play();
+        mediaPlayer = player;
+        playerPool.pin(player);
+        // stop() rewinds to the start and resets the cycle counter but keeps the decoder warm.
+        player.stop();
+        player.setCycleCount(cycleCount);
+        player.setOnEndOfMedia(onFinished == null ? null : () -> Platform.runLater(onFinished));
+        mediaView.setMediaPlayer(player);
+        player.play();
     }
 
     @Override
     public void stopMedia() {
+        endTransition();
         if (mediaPlayer != null) {
             mediaPlayer.stop();
-            mediaPlayer.dispose();
             mediaPlayer = null;
+            playerPool.pin(null);
         }
     }
 
+    /**
+     * Releases every pooled media player. Called once when the application exits.
+     */
+    public void dispose() {
+        stopMedia();
+        disposeTransition();
+        if (mediaView != null) {
+            mediaView.setMediaPlayer(null);
+        }
+        playerPool.clear();
+    }
+
     @Override
     public void pauseMedia() {
         if (mediaPlayer != null) {
             mediaPlayer.pause();
         }
+        if (isTransitionPlaying()) {
+            transitionPlayer.pause();
+        }
     }
 
     @Override
@@ -288,6 +373,9 @@ public class GameSceneController implements GameView {
         if (mediaPlayer != null) {
             mediaPlayer.play();
         }
+        if (isTransitionPlaying()) {
+            transitionPlayer.play();
+        }
     }
 
     @Override
@@ -321,28 +409,28 @@ public class GameSceneController implements GameView {
         }
         if (reportOverlay == null) {
             reportOverlay = new StackPane();
-            reportOverlay.setStyle("-fx-background-color: rgba(0,0,0,0.75);");
+            reportOverlay.getStyleClass().add("dim-overlay");
             reportOverlay.prefWidthProperty().bind(gameRoot.widthProperty());
             reportOverlay.prefHeightProperty().bind(gameRoot.heightProperty());
             reportOverlay.setMinSize(0, 0);
 
             VBox box = new VBox(15);
             box.setAlignment(Pos.CENTER);
-            box.setStyle("-fx-padding: 40;");
+            box.getStyleClass().add("report-box");
 
             Label title = new Label("CLASSIFY ANOMALY");
-            title.setStyle("-fx-text-fill: #ff5555; -fx-font-size: 32px; -fx-font-family: Arial; -fx-font-weight: bold;");
+            title.getStyleClass().add("overlay-title");
             box.getChildren().add(title);
 
             reportStatusLabel = new Label("");
-            reportStatusLabel.setStyle("-fx-text-fill: #ffaa44; -fx-font-size: 20px; -fx-font-family: Arial;");
+            reportStatusLabel.getStyleClass().add("report-status");
             box.getChildren().add(reportStatusLabel);
 
             reportTypeButtons = new Button[REPORT_ANOMALY_TYPES.length];
             for (int i = 0; i < REPORT_ANOMALY_TYPES.length; i++) {
                 final String selectedType = REPORT_ANOMALY_TYPES[i];
                 Button b = new Button(selectedType);
-                b.setStyle("-fx-background-color: #550000; -fx-text-fill: white; -fx-font-size: 18px; -fx-font-family: Arial;");
+                b.getStyleClass().add("report-type-button");
                 b.setPrefWidth(400);
                 b.setOnAction(e -> actions.onReportTypeSelected(selectedType));
                 reportTypeButtons[i] = b;
@@ -350,14 +438,14 @@ public class GameSceneController implements GameView {
             }
 
             Button cancel = new Button("CANCEL");
-            cancel.setStyle("-fx-background-color: #444444; -fx-text-fill: white; -fx-font-size: 18px; -fx-font-family: Arial;");
+            cancel.getStyleClass().add("cancel-button");
             cancel.setPrefWidth(400);
             cancel.setOnAction(e -> actions.onReportCancelled());
             box.getChildren().add(cancel);
 
             reportOverlay.getChildren().add(box);
         }
-        setReportStatus("", "-fx-text-fill: #ffaa44; -fx-font-size: 20px; -fx-font-family: Arial;");
+        setReportStatus("", ReportStatus.PENDING);
         setReportTypeButtonsEnabled(true);
         if (!gameRoot.getChildren().contains(reportOverlay)) {
             gameRoot.getChildren().add(reportOverlay);
@@ -373,11 +461,15 @@ public class GameSceneController implements GameView {
     }
 
     @Override
-    public void setReportStatus(String text, String css) {
+    public void setReportStatus(String text, ReportStatus status) {
         if (reportStatusLabel != null) {
             reportStatusLabel.setText(text == null ? "" : text);
-            if (css != null) {
-                reportStatusLabel.setStyle(css);
+            if (status != null && status != shownReportStatus) {
+                if (shownReportStatus != null) {
+                    reportStatusLabel.pseudoClassStateChanged(StatePseudoClasses.of(shownReportStatus), false);
+                }
+                reportStatusLabel.pseudoClassStateChanged(StatePseudoClasses.of(status), true);
+                shownReportStatus = status;
             }
         }
     }
@@ -398,18 +490,18 @@ public class GameSceneController implements GameView {
         }
         if (pauseOverlay == null) {
             pauseOverlay = new StackPane();
-            pauseOverlay.setStyle("-fx-background-color: rgba(0,0,0,0.75);");
+            pauseOverlay.getStyleClass().add("dim-overlay");
 
             VBox box = new VBox(20);
             box.setAlignment(Pos.CENTER);
 
             Button resume = new Button("RESUME");
-            resume.setStyle("-fx-background-color: #400000; -fx-text-fill: red; -fx-font-size: 24px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+            resume.getStyleClass().add("pause-button");
             resume.setPrefWidth(260);
             resume.setOnAction(e -> actions.onResumeFromPause());
 
             Button mainMenu = new Button("MAIN MENU");
-            mainMenu.setStyle("-fx-background-color: #300000; -fx-text-fill: red; -fx-font-size: 24px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+            mainMenu.getStyleClass().addAll("pause-button", "secondary");
             mainMenu.setPrefWidth(260);
             mainMenu.setOnAction(e -> actions.onReturnToMainMenuFromPause());
 
@@ -439,7 +531,7 @@ public class GameSceneController implements GameView {
         }
 
         gameOverOverlay = new StackPane();
-        gameOverOverlay.setStyle("-fx-background-color: rgba(0,0,0,0.86);");
+        gameOverOverlay.getStyleClass().add("game-over-overlay");
         gameOverOverlay.setPickOnBounds(true);
 
         VBox box = new VBox(18);
@@ -451,35 +543,18 @@ public class GameSceneController implements GameView {
                 : "YOU DID NOT SURVIVE UNTIL 6:00 AM\nGAME OVER!";
 
         Label label = new Label(message);
-        label.setStyle("-fx-text-fill: #ff6666; -fx-font-size: 30px; -fx-font-family: Arial; -fx-font-weight: bold;");
+        label.getStyleClass().add("game-over-label");
         label.setWrapText(true);
         label.setAlignment(Pos.CENTER);
         label.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
 
         Button mainMenu = new Button("MAIN MENU");
-        mainMenu.setStyle(
-                "-fx-background-color: linear-gradient(#7a0000,#2a0000);" +
-                "-fx-text-fill: #ffdede;" +
-                "-fx-font-size: 20px;" +
-                "-fx-font-family: 'Chiller';" +
-                "-fx-font-weight: bold;" +
-                "-fx-background-radius: 14;"
-        );
+        mainMenu.getStyleClass().addAll("game-over-button", "primary");
         mainMenu.setPrefWidth(280);
         mainMenu.setOnAction(e -> actions.onReturnToMainMenuFromGameOver());
 
         Button playAgain = new Button("PLAY AGAIN");
-        playAgain.setStyle(
-                "-fx-background-color: rgba(255,255,255,0.12);" +
-                "-fx-text-fill: #ffdede;" +
-                "-fx-font-size: 20px;" +
-                "-fx-font-family: 'Chiller';" +
-                "-fx-font-weight: bold;" +
-                "-fx-background-radius: 14;" +
-                "-fx-border-color: rgba(255,255,255,0.18);" +
-                "-fx-border-width: 1;" +
-                "-fx-border-radius: 14;"
-        );
+        playAgain.getStyleClass().addAll("game-over-button", "secondary");
         playAgain.setPrefWidth(280);
         playAgain.setOnAction(e -> actions.onPlayAgainFromGameOver());
 
@@ -514,29 +589,12 @@ public class GameSceneController implements GameView {
     }
 
     private void styleNavButton(Button button) {
-        button.setStyle(
-                "-fx-background-color: rgba(30,0,0,0.85);" +
-                "-fx-text-fill: #ff4444;" +
-                "-fx-font-size: 32px;" +
-                "-fx-font-family: Arial;" +
-                "-fx-font-weight: bold;" +
-                "-fx-background-radius: 40;" +
-                "-fx-border-color: #ff7777;" +
-                "-fx-border-width: 2;" +
-                "-fx-border-radius: 40;"
-        );
+        button.getStyleClass().add("nav-button");
         button.setPrefSize(80, 80);
     }
 
     private void styleControlButton(Button button) {
-        button.setStyle(
-                "-fx-background-color: #300000;" +
-                "-fx-text-fill: #ffcccc;" +
-                "-fx-font-size: 18px;" +
-                "-fx-font-family: Arial;" +
-                "-fx-font-weight: bold;" +
-                "-fx-background-radius: 14;"
-        );
+        button.getStyleClass().add("control-button");
         button.setPrefWidth(220);
     }
 }
@@ -13,6 +13,10 @@ public interface GameView {
 
     void playLoopingMedia(String resourcePath);
     void playOnceMedia(String resourcePath, Runnable onFinished);
+    void preloadMedia(String resourcePath);
+    void prepareTransition(String resourcePath);
+    void playTransition(String resourcePath, Runnable onFinished);
+    void cancelTransition();
     void stopMedia();
     void pauseMedia();
     void resumeMedia();
@@ -24,7 +28,7 @@ public interface GameView {
 
     void showReportOverlay();
     void hideReportOverlay();
-    void setReportStatus(String text, String css);
+    void setReportStatus(String text, ReportStatus status);
     void setReportTypeButtonsEnabled(boolean enabled);
 
     void showPauseOverlay();
@@ -32,5 +36,24 @@ public interface GameView {
 
     void showGameOverOverlay(boolean win);
     void hideGameOverOverlay();
+
+    /**
+     * Outcome shown on the report overlay; each maps to a CSS pseudo-class of the status label.
+     */
+    enum ReportStatus {
+        PENDING("pending"),
+        FAILED("failed"),
+        SUCCESS("success");
+
+        private final String pseudoClass;
+
+        ReportStatus(String pseudoClass) {
+            this.pseudoClass = pseudoClass;
+        }
+
+        public String pseudoClass() {
+            return pseudoClass;
+        }
+    }
 }
 
@@ -0,0 +1,114 @@
+package com.horrorgame.fx.ui;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+/**
+ * Bounded pool of prepared {@link MediaPlayer}s keyed by resource path.
+ * Players stay decoded between camera switches so showing a room again is a
+ * {@code MediaView} swap instead of a cold decoder start.
+ * Least recently used players are disposed once the pool exceeds its player count or
+ * its estimated memory cap; the pinned (on-screen) player and playing ones are kept.
+ * Must only be used from the JavaFX application thread.
+ */
+class MediaPlayerPool {
+
+    static final int DEFAULT_MAX_PLAYERS = Integer.getInteger("horrorgame.media.poolSize", 8);
+    static final long DEFAULT_MAX_BYTES = Long.getLong("horrorgame.media.poolMegabytes", 256L) * 1024 * 1024;
+
+    // Decoded frames a player typically keeps buffered, used to estimate its footprint.
+    private static final int BUFFERED_FRAMES = 4;
+    private static final int FALLBACK_WIDTH = 1280;
+    private static final int FALLBACK_HEIGHT = 720;
+
+    private final int maxPlayers;
+    private final long maxBytes;
+    private final Map<String, MediaPlayer> players = new LinkedHashMap<>(16, 0.75f, true);
+    private MediaPlayer pinned;
+
+    MediaPlayerPool() {
+        this(DEFAULT_MAX_PLAYERS, DEFAULT_MAX_BYTES);
+    }
+
+    MediaPlayerPool(int maxPlayers, long maxBytes) {
+        this.maxPlayers = Math.max(1, maxPlayers);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the pooled player for the resource, creating it if needed, and marks it as most
+     * recently used. Returns null if the resource does not exist.
+     */
+    MediaPlayer acquire(String resourcePath) {
+        MediaPlayer player = players.get(resourcePath);
+        if (player != null) {
+            return player;
+        }
+        URL resource = MediaPlayerPool.class.getResource(resourcePath);
+        if (resource == null) {
+            return null;
+        }
+        MediaPlayer created = new MediaPlayer(new Media(resource.toExternalForm()));
+        created.setOnError(() -> evict(resourcePath, created));
+        players.put(resourcePath, created);
+        trim(created);
+        return created;
+    }
+
+    /**
+     * Keeps {@code player} from being evicted even while it is paused or stopped, e.g. the player
+     * on screen while the game is paused or a transition covers it. Null unpins.
+     */
+    void pin(MediaPlayer player) {
+        pinned = player;
+    }
+
+    /**
+     * Disposes every pooled player.
+     */
+    void clear() {
+        for (MediaPlayer player : players.values()) {
+            player.dispose();
+        }
+        players.clear();
+        pinned = null;
+    }
+
+    private void evict(String resourcePath, MediaPlayer player) {
+        // Only the failed player itself: the path may already map to a newer one.
+        if (players.remove(resourcePath, player)) {
+            if (pinned == player) {
+                pinned = null;
+            }
+            player.dispose();
+        }
+    }
+
+    private void trim(MediaPlayer keep) {
+        long bytes = 0;
+        for (MediaPlayer player : players.values()) {
+            bytes += estimateBytes(player);
+        }
+        Iterator<MediaPlayer> eldestFirst = players.values().iterator();
+        while ((players.size() > maxPlayers || bytes > maxBytes) && eldestFirst.hasNext()) {
+            MediaPlayer candidate = eldestFirst.next();
+            if (candidate == keep || candidate == pinned || candidate.getStatus() == MediaPlayer.Status.PLAYING) {
+                continue;
+            }
+            bytes -= estimateBytes(candidate);
+            eldestFirst.remove();
+            candidate.dispose();
+        }
+    }
+
+    private static long estimateBytes(MediaPlayer player) {
+        Media media = player.getMedia();
+        long width = media.getWidth() > 0 ? media.getWidth() : FALLBACK_WIDTH;
+        long height = media.getHeight() > 0 ? media.getHeight() : FALLBACK_HEIGHT;
+        return width * height * 4 * BUFFERED_FRAMES;
+    }
+}
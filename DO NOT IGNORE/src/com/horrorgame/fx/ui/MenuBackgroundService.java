@@ -0,0 +1,203 @@
+package com.horrorgame.fx.ui;
+
+import com.horrorgame.game.AnimatedGif;
+import com.horrorgame.game.ScaledFrameBudget;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Screen;
+import javafx.util.Duration;
+
+/**
+ * Animated GIF backgrounds shared by the menu scenes.
+ * Each GIF is decoded once, on a background thread, and its frames are scaled to the primary screen's
+ * visual bounds up front, so the views show them without per-frame rescaling and scenes using the same
+ * GIF share one set of images.
+ * Frames count against the {@link ScaledFrameBudget} shared with the Swing menus.
+ * One timeline advances every view; a view's image only changes when its GIF moves on to a new frame.
+ * The timeline only runs while a view of an animated GIF is in the scene a window is showing.
+ * Must only be used from the JavaFX application thread.
+ */
+class MenuBackgroundService {
+
+    private static final Duration TICK = Duration.millis(20);
+
+    private final Map<String, Background> backgrounds = new HashMap<>();
+    private final Timeline clock = new Timeline(new KeyFrame(TICK, e -> tick()));
+    private final long startNanos = System.nanoTime();
+    // Shared by every view's scene: fires when stage.setScene moves a scene on or off the stage.
+    private final InvalidationListener windowListener = o -> updateClock();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "menu-background-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    MenuBackgroundService() {
+        clock.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * A view showing the given GIF, animated with every other view of it.
+     * Returns at once; the view stays empty until the GIF is decoded, or for good if the resource is
+     * missing or cannot be decoded.
+     */
+    ImageView createView(String resourcePath) {
+        ImageView view = new ImageView();
+        view.setPreserveRatio(false);
+        Background background = background(resourcePath);
+        if (background != null) {
+            background.views.add(view);
+            if (background.frames != null) {
+                view.setImage(background.frames[background.currentFrame]);
+            }
+            view.sceneProperty().addListener((obs, oldScene, newScene) -> {
+                if (oldScene != null) {
+                    oldScene.windowProperty().removeListener(windowListener);
+                }
+                if (newScene != null) {
+                    newScene.windowProperty().addListener(windowListener);
+                }
+                updateClock();
+            });
+        }
+        return view;
+    }
+
+    private void updateClock() {
+        boolean onStage = false;
+        for (Background background : backgrounds.values()) {
+            if (background == null || !background.isAnimated()) {
+                continue;
+            }
+            for (ImageView view : background.views) {
+                Scene scene = view.getScene();
+                onStage |= scene != null && scene.getWindow() != null;
+            }
+        }
+        if (!onStage) {
+            clock.pause();
+        } else if (clock.getStatus() != Animation.Status.RUNNING) {
+            // Catch up right away; the frames follow wall-clock time, not the timeline's.
+            tick();
+            clock.play();
+        }
+    }
+
+    private Background background(String resourcePath) {
+        if (backgrounds.containsKey(resourcePath)) {
+            return backgrounds.get(resourcePath);
+        }
+        URL resource = getClass().getResource(resourcePath);
+        Background background = resource == null ? null : new Background();
+        // Missing resources are cached too, so a missing GIF is only looked up once.
+        backgrounds.put(resourcePath, background);
+        if (background != null) {
+            Rectangle2D bounds = Screen.getPrimary().getVisualBounds();
+            int width = (int) Math.round(bounds.getWidth());
+            int height = (int) Math.round(bounds.getHeight());
+            loader.execute(() -> load(background, resource, resourcePath, width, height));
+        }
+        return background;
+    }
+
+    private void load(Background background, URL resource, String resourcePath, int width, int height) {
+        try {
+            AnimatedGif gif = AnimatedGif.read(resource);
+            int stride = ScaledFrameBudget.reserve(gif.getFrameCount(), (long) width * height * 4);
+            Image[] frames = new Image[ScaledFrameBudget.keptFrames(gif.getFrameCount(), stride)];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = SwingFXUtils.toFXImage(scale(gif.getFrame(i * stride), width, height), null);
+            }
+            AnimatedGif.Timing timing = gif.getTiming();
+            Platform.runLater(() -> loaded(background, timing, frames, stride));
+        } catch (IOException e) {
+            System.err.println("Failed to load menu background: " + resourcePath);
+            e.printStackTrace();
+        }
+    }
+
+    private void loaded(Background background, AnimatedGif.Timing timing, Image[] frames, int stride) {
+        background.timing = timing;
+        background.frames = frames;
+        background.stride = stride;
+        background.currentFrame = background.frameAt(elapsedMillis());
+        Image image = frames[background.currentFrame];
+        for (ImageView view : background.views) {
+            view.setImage(image);
+        }
+        updateClock();
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        if (source.getWidth() == width && source.getHeight() == height) {
+            return source;
+        }
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private void tick() {
+        long elapsed = elapsedMillis();
+        for (Background background : backgrounds.values()) {
+            if (background == null || !background.isAnimated()) {
+                continue;
+            }
+            int frame = background.frameAt(elapsed);
+            if (frame != background.currentFrame) {
+                background.currentFrame = frame;
+                Image image = background.frames[frame];
+                for (ImageView view : background.views) {
+                    view.setImage(image);
+                }
+            }
+        }
+    }
+
+    private static final class Background {
+        // Set on the FX thread once decoding has finished; frames is null until then.
+        AnimatedGif.Timing timing;
+        Image[] frames;
+        // Over the budget only every stride-th frame is kept, see ScaledFrameBudget.
+        int stride = 1;
+        final List<ImageView> views = new ArrayList<>();
+        int currentFrame;
+
+        boolean isAnimated() {
+            return frames != null && frames.length > 1;
+        }
+
+        int frameAt(long elapsedMillis) {
+            return timing.frameAt(elapsedMillis) / stride;
+        }
+    }
+}
@@ -3,15 +3,14 @@ package com.horrorgame.fx.ui;
 import com.horrorgame.audio.SoundManager;
 import com.horrorgame.fx.DifficultyLevel;
 import com.horrorgame.fx.core.SceneManager;
-import com.horrorgame.fx.logic.GameController;
-import java.net.URL;
 import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -25,14 +24,22 @@ import javafx.stage.Stage;
  */
 public class MenuController {
 
+    private static final String MENU_STYLESHEET = MenuController.class.getResource("menu.css").toExternalForm();
+    private static final PseudoClass ERROR = PseudoClass.getPseudoClass("error");
+
     private final SceneManager sceneManager;
-    private final GameController gameController;
+    private final MenuBackgroundService backgrounds = new MenuBackgroundService();
 
-    private DifficultyLevel currentDifficulty = DifficultyLevel.MEDIUM;
+    // Shown on the instructions screen while the rooms are still loading.
+    private HBox loadingBox;
+    private ProgressIndicator loadingIndicator;
+    private Label loadingLabel;
+    // True only while progress is shown, so late progress cannot overwrite an error or a hidden box.
+    private boolean loading;
+    private Button startShiftButton;
 
-    public MenuController(SceneManager sceneManager, GameController gameController) {
+    public MenuController(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
-        this.gameController = gameController;
     }
 
     public void applyFullscreenBounds(Stage stage) {
@@ -47,20 +54,13 @@ public class MenuController {
     public Scene buildMainMenuScene() {
         StackPane root = new StackPane();
 
-        ImageView background = new ImageView();
-        URL bgUrl = getClass().getResource("/com/horrorgame/assets/images/homescreen.gif");
-        if (bgUrl != null) {
-            background.setImage(new Image(bgUrl.toExternalForm()));
-            background.setPreserveRatio(false);
-            background.setFitWidth(1280);
-            background.setFitHeight(720);
-        }
+        ImageView background = backgrounds.createView("/com/horrorgame/assets/images/homescreen.gif");
 
         VBox content = new VBox(40);
         content.setAlignment(Pos.CENTER);
 
         Label title = new Label("DO NOT IGNORE");
-        title.setStyle("-fx-text-fill: red; -fx-font-size: 72px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+        title.getStyleClass().add("main-title");
 
         Button startButton = new Button("Start");
         Button exitButton = new Button("Exit");
@@ -81,6 +81,7 @@ public class MenuController {
         StackPane.setAlignment(content, Pos.CENTER);
 
         Scene scene = new Scene(root, 1280, 720);
+        scene.getStylesheets().add(MENU_STYLESHEET);
         background.fitWidthProperty().bind(scene.widthProperty());
         background.fitHeightProperty().bind(scene.heightProperty());
 
@@ -91,20 +92,13 @@ public class MenuController {
     public Scene buildDifficultyScene() {
         StackPane root = new StackPane();
 
-        ImageView background = new ImageView();
-        URL bgUrl = getClass().getResource("/com/horrorgame/assets/images/difficultyscreen.gif");
-        if (bgUrl != null) {
-            background.setImage(new Image(bgUrl.toExternalForm()));
-            background.setPreserveRatio(false);
-            background.setFitWidth(1280);
-            background.setFitHeight(720);
-        }
+        ImageView background = backgrounds.createView("/com/horrorgame/assets/images/difficultyscreen.gif");
 
         VBox content = new VBox(18);
         content.setAlignment(Pos.CENTER);
 
         Label title = new Label("Select Difficulty");
-        title.setStyle("-fx-text-fill: red; -fx-font-size: 56px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+        title.getStyleClass().add("difficulty-title");
 
         VBox easyCard = createDifficultyCard(
                 "You may ignore",
@@ -125,20 +119,17 @@ public class MenuController {
 
         easyButton.setOnAction(e -> {
             SoundManager.playSound("/com/horrorgame/assets/audio/hover_click.WAV");
-            currentDifficulty = DifficultyLevel.EASY;
-            gameController.setDifficulty(currentDifficulty);
+            sceneManager.setDifficulty(DifficultyLevel.EASY);
             sceneManager.showInstructions();
         });
         mediumButton.setOnAction(e -> {
             SoundManager.playSound("/com/horrorgame/assets/audio/hover_click.WAV");
-            currentDifficulty = DifficultyLevel.MEDIUM;
-            gameController.setDifficulty(currentDifficulty);
+            sceneManager.setDifficulty(DifficultyLevel.MEDIUM);
             sceneManager.showInstructions();
         });
         hardButton.setOnAction(e -> {
             SoundManager.playSound("/com/horrorgame/assets/audio/hover_click.WAV");
-            currentDifficulty = DifficultyLevel.HARD;
-            gameController.setDifficulty(currentDifficulty);
+            sceneManager.setDifficulty(DifficultyLevel.HARD);
             sceneManager.showInstructions();
         });
 
@@ -157,6 +148,7 @@ public class MenuController {
         StackPane.setAlignment(content, Pos.CENTER);
 
         Scene scene = new Scene(root, 1280, 720);
+        scene.getStylesheets().add(MENU_STYLESHEET);
         background.fitWidthProperty().bind(scene.widthProperty());
         background.fitHeightProperty().bind(scene.heightProperty());
 
@@ -168,30 +160,14 @@ public class MenuController {
         Button button = new Button(title);
         button.setPrefWidth(420);
     
-        button.setStyle(
-            "-fx-background-color: linear-gradient(to bottom, #5a0000, #2b0000);" +
-            "-fx-text-fill: #ff2b2b;" +
-            "-fx-font-size: 34px;" +
-            "-fx-font-family: 'Chiller';" +
-            "-fx-font-weight: bold;" +
-            "-fx-background-radius: 12;" +
-            "-fx-border-radius: 12;" +
-            "-fx-border-color: rgba(255,0,0,0.4);" +
-            "-fx-border-width: 1.5;" +
-            "-fx-padding: 10 20 10 20;"
-        );
+        // Glows on hover via :hover in menu.css.
+        button.getStyleClass().add("difficulty-button");
     
         Label desc = new Label(description);
         desc.setWrapText(true);
         desc.setMaxWidth(500);
     
-        desc.setStyle(
-            "-fx-text-fill: rgba(230,230,230,0.85);" +
-            "-fx-font-size: 16px;" +
-            "-fx-font-family: 'Arial';" +
-            "-fx-alignment: center;" +
-            "-fx-text-alignment: center;"
-        );
+        desc.getStyleClass().add("difficulty-description");
     
         VBox card = new VBox(12);
         card.setAlignment(Pos.CENTER);
@@ -199,52 +175,28 @@ public class MenuController {
     
         card.setMaxWidth(560);
     
-        card.setStyle(
-            "-fx-background-color: rgba(0,0,0,0.65);" +
-            "-fx-background-radius: 18;" +
-            "-fx-border-radius: 18;" +
-            "-fx-border-color: rgba(255,0,0,0.25);" +
-            "-fx-border-width: 1.2;" +
-            "-fx-padding: 18 22 18 22;"
-        );
-        
-        button.setOnMouseEntered(e ->
-            button.setStyle(button.getStyle() +
-                "-fx-effect: dropshadow(gaussian, red, 15, 0.6, 0, 0);")
-        );
-        
-        button.setOnMouseExited(e ->
-            button.setStyle(button.getStyle().replace(
-                "-fx-effect: dropshadow(gaussian, red, 15, 0.6, 0, 0);", ""))
-        );
+        card.getStyleClass().add("difficulty-card");
         return card;
     }
 
     public Scene buildInstructionsScene() {
         BorderPane root = new BorderPane();
-        root.setStyle("-fx-background-color: black;");
+        root.getStyleClass().add("instructions-root");
 
         Label title = new Label("Instructions");
-        title.setStyle("-fx-text-fill: #ff4444; -fx-font-size: 64px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+        title.getStyleClass().add("instructions-title");
 
         VBox topBox = new VBox(title);
         topBox.setAlignment(Pos.CENTER);
-        topBox.setStyle("-fx-padding: 30 0 20 0;");
+        topBox.getStyleClass().add("instructions-header");
         root.setTop(topBox);
 
         VBox card = new VBox(16);
         card.setMaxWidth(820);
-        card.setStyle(
-                "-fx-background-color: rgba(255,255,255,0.06);" +
-                "-fx-background-radius: 18;" +
-                "-fx-border-color: rgba(255,255,255,0.12);" +
-                "-fx-border-radius: 18;" +
-                "-fx-border-width: 1;" +
-                "-fx-padding: 22 26 22 26;"
-        );
+        card.getStyleClass().add("instructions-card");
 
         Label howToPlay = new Label("How to play");
-        howToPlay.setStyle("-fx-text-fill: #ff9999; -fx-font-size: 22px; -fx-font-family: Arial; -fx-font-weight: bold;");
+        howToPlay.getStyleClass().add("instructions-heading");
 
         VBox bullets = new VBox(8);
         bullets.getChildren().addAll(
@@ -255,7 +207,7 @@ public class MenuController {
         );
 
         Label anomalyTitle = new Label("Anomaly types");
-        anomalyTitle.setStyle("-fx-text-fill: #ff9999; -fx-font-size: 22px; -fx-font-family: Arial; -fx-font-weight: bold;");
+        anomalyTitle.getStyleClass().add("instructions-heading");
 
         VBox anomalyList = new VBox(6);
         anomalyList.getChildren().addAll(
@@ -270,13 +222,13 @@ public class MenuController {
         );
 
         Label tip = new Label("Tip: Memorize each room’s normal state before 12:30 AM.");
-        tip.setStyle("-fx-text-fill: #dddddd; -fx-font-size: 16px; -fx-font-family: Arial;");
+        tip.getStyleClass().add("instructions-tip");
 
         card.getChildren().addAll(howToPlay, bullets, anomalyTitle, anomalyList, tip);
 
         VBox centerBox = new VBox(card);
         centerBox.setAlignment(Pos.TOP_CENTER);
-        centerBox.setStyle("-fx-padding: 0 40 0 40;");
+        centerBox.getStyleClass().add("instructions-body");
         root.setCenter(centerBox);
 
         Button backButton = new Button("Back");
@@ -286,31 +238,86 @@ public class MenuController {
             sceneManager.showDifficulty();
         });
 
-        Button startShiftButton = new Button("Start");
+        startShiftButton = new Button("Start");
         styleMenuButton(startShiftButton);
         startShiftButton.setOnAction(e -> sceneManager.startGame());
 
         HBox bottomButtons = new HBox(20, backButton, startShiftButton);
         bottomButtons.setAlignment(Pos.CENTER);
-        bottomButtons.setStyle("-fx-padding: 20 0 40 0;");
-        root.setBottom(bottomButtons);
 
-        return new Scene(root, 1280, 720);
+        loadingIndicator = new ProgressIndicator();
+        loadingIndicator.setPrefSize(28, 28);
+        loadingLabel = new Label("Loading rooms…");
+        loadingLabel.getStyleClass().add("loading-label");
+        loadingBox = new HBox(10, loadingIndicator, loadingLabel);
+        loadingBox.setAlignment(Pos.CENTER);
+        loadingBox.setVisible(false);
+
+        VBox bottomBox = new VBox(12, loadingBox, bottomButtons);
+        bottomBox.setAlignment(Pos.CENTER);
+        bottomBox.getStyleClass().add("instructions-footer");
+        root.setBottom(bottomBox);
+
+        Scene scene = new Scene(root, 1280, 720);
+        scene.getStylesheets().add(MENU_STYLESHEET);
+        return scene;
+    }
+
+    /**
+     * Start was pressed before the rooms finished loading: show progress until the game can start.
+     */
+    public void showLoading() {
+        if (loadingBox == null) {
+            return;
+        }
+        loading = true;
+        loadingIndicator.setVisible(true);
+        loadingLabel.pseudoClassStateChanged(ERROR, false);
+        loadingBox.setVisible(true);
+        startShiftButton.setDisable(true);
+    }
+
+    public void setLoadingProgress(int roomsFound) {
+        if (!loading) {
+            return;
+        }
+        loadingLabel.setText("Loading rooms… " + roomsFound + " found");
+    }
+
+    public void hideLoading() {
+        if (loadingBox == null) {
+            return;
+        }
+        loading = false;
+        loadingBox.setVisible(false);
+        startShiftButton.setDisable(false);
+    }
+
+    public void showLoadingError(String message) {
+        if (loadingBox == null) {
+            return;
+        }
+        loading = false;
+        loadingIndicator.setVisible(false);
+        loadingLabel.setText(message);
+        loadingLabel.pseudoClassStateChanged(ERROR, true);
+        loadingBox.setVisible(true);
+        startShiftButton.setDisable(true);
     }
 
     private Label createInstructionText(String text) {
         Label label = new Label(text);
-        label.setStyle("-fx-text-fill: white; -fx-font-size: 18px; -fx-font-family: Arial;");
+        label.getStyleClass().add("instruction-text");
         return label;
     }
 
     private void styleMenuButton(Button button) {
-        button.setStyle("-fx-background-color: #400000; -fx-text-fill: red; -fx-font-size: 32px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+        button.getStyleClass().add("menu-button");
         button.setPrefWidth(260);
     }
 
     private void styleBackButton(Button button) {
-        button.setStyle("-fx-background-color: #300000; -fx-text-fill: red; -fx-font-size: 22px; -fx-font-family: 'Chiller'; -fx-font-weight: bold;");
+        button.getStyleClass().add("back-button");
         button.setPrefWidth(160);
     }
 }
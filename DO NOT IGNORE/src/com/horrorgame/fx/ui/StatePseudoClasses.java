@@ -0,0 +1,38 @@
+package com.horrorgame.fx.ui;
+
+import com.horrorgame.fx.logic.ThreatManager;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import javafx.css.PseudoClass;
+
+/**
+ * CSS pseudo-classes of the runtime states styled in {@code game.css}, resolved once per state.
+ * The states themselves only carry the pseudo-class name, so the logic package stays free of JavaFX types.
+ */
+final class StatePseudoClasses {
+
+    private static final Map<ThreatManager.ThreatBand, PseudoClass> THREAT_BANDS =
+            resolve(ThreatManager.ThreatBand.class, band -> band.viewModel().pseudoClass());
+    private static final Map<GameView.ReportStatus, PseudoClass> REPORT_STATUSES =
+            resolve(GameView.ReportStatus.class, GameView.ReportStatus::pseudoClass);
+
+    private StatePseudoClasses() {
+    }
+
+    static PseudoClass of(ThreatManager.ThreatBand band) {
+        return THREAT_BANDS.get(band);
+    }
+
+    static PseudoClass of(GameView.ReportStatus status) {
+        return REPORT_STATUSES.get(status);
+    }
+
+    private static <E extends Enum<E>> Map<E, PseudoClass> resolve(Class<E> type, Function<E, String> name) {
+        Map<E, PseudoClass> pseudoClasses = new EnumMap<>(type);
+        for (E state : type.getEnumConstants()) {
+            pseudoClasses.put(state, PseudoClass.getPseudoClass(name.apply(state)));
+        }
+        return pseudoClasses;
+    }
+}
@@ -0,0 +1,238 @@
+package com.horrorgame.game;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import org.w3c.dom.Node;
+
+/**
+ * An animated GIF decoded once into fully composited frames.
+ * Each frame is what a browser would show at that point: frame offsets and the disposal method of the
+ * previous frame are applied, so frames can be drawn (or scaled and cached) independently of each other.
+ * The animation always loops.
+ */
+public final class AnimatedGif {
+
+    // Browsers treat tiny delays as "as fast as allowed"; 100 ms is what they fall back to.
+    private static final int MIN_DELAY_MILLIS = 20;
+    private static final int DEFAULT_DELAY_MILLIS = 100;
+
+    private static final String IMAGE_METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+    private static final String STREAM_METADATA_FORMAT = "javax_imageio_gif_stream_1.0";
+
+    private final BufferedImage[] frames;
+    private final int[] delays;
+    private final Timing timing;
+    private final boolean opaque;
+
+    private AnimatedGif(List<BufferedImage> frames, List<Integer> delays, boolean opaque) {
+        this.frames = frames.toArray(new BufferedImage[0]);
+        this.delays = delays.stream().mapToInt(Integer::intValue).toArray();
+        this.timing = new Timing(this.delays);
+        this.opaque = opaque;
+    }
+
+    /**
+     * Decodes a GIF resource. Returns null if the resource does not exist.
+     */
+    public static AnimatedGif read(URL resource) throws IOException {
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream in = resource.openStream()) {
+            return read(in);
+        }
+    }
+
+    public static AnimatedGif read(InputStream in) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IOException("No GIF decoder available");
+        }
+        ImageReader reader = readers.next();
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            reader.setInput(stream, false);
+            int count = reader.getNumImages(true);
+            if (count < 1) {
+                throw new IOException("GIF has no frames");
+            }
+
+            BufferedImage first = reader.read(0);
+            int width = first.getWidth();
+            int height = first.getHeight();
+            Node screen = child(reader.getStreamMetadata(), STREAM_METADATA_FORMAT, "LogicalScreenDescriptor");
+            if (screen != null) {
+                width = Math.max(width, intAttribute(screen, "logicalScreenWidth", 0));
+                height = Math.max(height, intAttribute(screen, "logicalScreenHeight", 0));
+            }
+
+            BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = canvas.createGraphics();
+            List<BufferedImage> frames = new ArrayList<>(count);
+            List<Integer> delays = new ArrayList<>(count);
+            boolean opaque = true;
+            try {
+                for (int i = 0; i < count; i++) {
+                    BufferedImage raw = i == 0 ? first : reader.read(i);
+                    IIOMetadata metadata = reader.getImageMetadata(i);
+                    Node descriptor = child(metadata, IMAGE_METADATA_FORMAT, "ImageDescriptor");
+                    Node control = child(metadata, IMAGE_METADATA_FORMAT, "GraphicControlExtension");
+                    int left = intAttribute(descriptor, "imageLeftPosition", 0);
+                    int top = intAttribute(descriptor, "imageTopPosition", 0);
+                    String disposal = control == null ? "none" : attribute(control, "disposalMethod", "none");
+                    int delay = intAttribute(control, "delayTime", 0) * 10;
+
+                    BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+                    g.setComposite(AlphaComposite.SrcOver);
+                    g.drawImage(raw, left, top, null);
+                    BufferedImage frame = copy(canvas);
+                    opaque = opaque && isOpaque(frame);
+                    frames.add(frame);
+                    delays.add(delay < MIN_DELAY_MILLIS ? DEFAULT_DELAY_MILLIS : delay);
+
+                    // Prepare the canvas for the next frame.
+                    if ("restoreToBackgroundColor".equals(disposal)) {
+                        g.setComposite(AlphaComposite.Clear);
+                        g.fillRect(left, top, raw.getWidth(), raw.getHeight());
+                    } else if (previous != null) {
+                        g.setComposite(AlphaComposite.Src);
+                        g.drawImage(previous, 0, 0, null);
+                    }
+                }
+            } finally {
+                g.dispose();
+            }
+            return new AnimatedGif(frames, delays, opaque);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    public int getWidth() {
+        return frames[0].getWidth();
+    }
+
+    public int getHeight() {
+        return frames[0].getHeight();
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public BufferedImage getFrame(int index) {
+        return frames[index];
+    }
+
+    public int getDelayMillis(int index) {
+        return delays[index];
+    }
+
+    public int getDurationMillis() {
+        return timing.durationMillis;
+    }
+
+    /**
+     * The frame schedule on its own, for callers that keep their own (e.g. scaled) copies of the frames
+     * and want to let the decoded ones go.
+     */
+    public Timing getTiming() {
+        return timing;
+    }
+
+    /**
+     * True if no frame has any transparent pixel.
+     */
+    public boolean isOpaque() {
+        return opaque;
+    }
+
+    /**
+     * The frame showing {@code elapsedMillis} after the animation started, looping forever.
+     */
+    public int frameAt(long elapsedMillis) {
+        return timing.frameAt(elapsedMillis);
+    }
+
+    private static BufferedImage copy(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        source.copyData(copy.getRaster());
+        return copy;
+    }
+
+    private static boolean isOpaque(BufferedImage image) {
+        int[] row = new int[image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, row.length, 1, row, 0, row.length);
+            for (int argb : row) {
+                if ((argb >>> 24) != 0xFF) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Node child(IIOMetadata metadata, String format, String name) {
+        if (metadata == null) {
+            return null;
+        }
+        for (Node node = metadata.getAsTree(format).getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name, String fallback) {
+        Node value = node == null ? null : node.getAttributes().getNamedItem(name);
+        return value == null ? fallback : value.getNodeValue();
+    }
+
+    private static int intAttribute(Node node, String name, int fallback) {
+        try {
+            return Integer.parseInt(attribute(node, name, Integer.toString(fallback)));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * When each frame of a looping animation starts.
+     */
+    public static final class Timing {
+        private final int[] frameStarts;
+        private final int durationMillis;
+
+        private Timing(int[] delays) {
+            frameStarts = new int[delays.length];
+            int time = 0;
+            for (int i = 0; i < delays.length; i++) {
+                frameStarts[i] = time;
+                time += delays[i];
+            }
+            durationMillis = time;
+        }
+
+        /**
+         * The frame showing {@code elapsedMillis} after the animation started, looping forever.
+         */
+        public int frameAt(long elapsedMillis) {
+            int time = (int) Math.floorMod(elapsedMillis, (long) durationMillis);
+            int index = Arrays.binarySearch(frameStarts, time);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
@@ -9,8 +9,6 @@ import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -125,21 +123,19 @@ public class GamePanel extends JPanel {
         feedbackLabel = new FeedbackLabel();
         add(feedbackLabel);
 
-        addComponentListener(new ComponentAdapter() {
-            @Override
-            public void componentResized(ComponentEvent e) {
-                if (getWidth() > 100 && getHeight() > 100) {
-                    layoutUI();
-                    if (reportOverlay != null) {
-                        reportOverlay.setBounds(0, 0, getWidth(), getHeight());
-                    }
-                    if (pauseOverlay != null) {
-                        pauseOverlay.setBounds(0, 0, getWidth(), getHeight());
-                    }
-                    repaint();
+        // Relayout at most once per frame while the window is being resized.
+        addComponentListener(new ResizeCoalescer(size -> {
+            if (size.width > 100 && size.height > 100) {
+                layoutUI();
+                if (reportOverlay != null) {
+                    reportOverlay.setBounds(0, 0, size.width, size.height);
                 }
+                if (pauseOverlay != null) {
+                    pauseOverlay.setBounds(0, 0, size.width, size.height);
+                }
+                repaint();
             }
-        });
+        }));
 
         SwingUtilities.invokeLater(this::layoutUI);
         randomizeStartingCamera();
@@ -0,0 +1,58 @@
+package com.horrorgame.game;
+
+import java.awt.Dimension;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.util.function.Consumer;
+import javax.swing.Timer;
+
+/**
+ * Component listener that collapses a burst of resize events (e.g. while a window is dragged) into at
+ * most one layout per frame. Only the latest size is kept; once per frame it is handed to a dispatcher,
+ * which runs the layout on the EDT directly or forwards it to another UI thread such as JavaFX's.
+ * Sizes equal to the last one applied are dropped.
+ */
+final class ResizeCoalescer extends ComponentAdapter {
+
+    static final int FRAME_MILLIS = 16;
+
+    private final Consumer<Runnable> dispatcher;
+    private final Consumer<Dimension> layout;
+    private final Timer frameTimer;
+
+    // EDT only.
+    private Dimension pending;
+    private Dimension applied;
+
+    /**
+     * Lays out on the EDT.
+     */
+    ResizeCoalescer(Consumer<Dimension> layout) {
+        this(Runnable::run, layout);
+    }
+
+    ResizeCoalescer(Consumer<Runnable> dispatcher, Consumer<Dimension> layout) {
+        this.dispatcher = dispatcher;
+        this.layout = layout;
+        frameTimer = new Timer(FRAME_MILLIS, e -> flush());
+        frameTimer.setRepeats(false);
+    }
+
+    @Override
+    public void componentResized(ComponentEvent e) {
+        pending = e.getComponent().getSize();
+        if (!frameTimer.isRunning()) {
+            frameTimer.start();
+        }
+    }
+
+    private void flush() {
+        Dimension size = pending;
+        pending = null;
+        if (size == null || size.equals(applied)) {
+            return;
+        }
+        applied = size;
+        dispatcher.accept(() -> layout.accept(size));
+    }
+}
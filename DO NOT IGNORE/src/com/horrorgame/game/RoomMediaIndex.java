@@ -0,0 +1,193 @@
+package com.horrorgame.game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precomputed room media manifest so {@link RoomMediaLibrary#load} does not have to walk and
+ * parse the whole rooms tree at every launch.
+ * The file is produced at build time by {@link #main} (see the {@code roomMediaIndex} Gradle task).
+ * Format: a header line followed by sorted {@code roomKey<TAB>kind<TAB>resourcePath} lines,
+ * where kind is NORMAL, JUMPSCARE, an {@link RoomMediaLibrary.AnomalyType} name, or UNKNOWN for
+ * clips whose anomaly type is not recognised (they still make their room exist, as when scanning).
+ */
+public final class RoomMediaIndex {
+
+    static final String INDEX_PATH = "/com/horrorgame/assets/images/rooms.index";
+    static final String KIND_NORMAL = "NORMAL";
+    static final String KIND_JUMPSCARE = "JUMPSCARE";
+    static final String KIND_UNKNOWN = "UNKNOWN";
+
+    private static final String HEADER = "# room-media-index v2";
+
+    record Entry(String roomKey, String kind, String resourcePath) {}
+
+    private RoomMediaIndex() {
+    }
+
+    /**
+     * Build-time entry point.
+     * Usage: {@code RoomMediaIndex <rooms directory> <output file>}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: RoomMediaIndex <rooms directory> <output file>");
+            System.exit(2);
+        }
+        Path roomsDir = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        if (!Files.isDirectory(roomsDir)) {
+            // No rooms packaged: without a manifest the library simply falls back to scanning.
+            Files.deleteIfExists(output);
+            return;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (String resourcePath : RoomMediaLibrary.listFromFileSystem(roomsDir, RoomMediaLibrary.ROOMS_ROOT, ".mp4")) {
+            RoomMediaLibrary.ParsedResource parsed = RoomMediaLibrary.ParsedResource.parse(resourcePath);
+            if (parsed == null) {
+                continue;
+            }
+            entries.add(new Entry(parsed.roomKey, parsed.kind(), resourcePath));
+        }
+        entries.sort(Comparator.comparing(Entry::roomKey)
+                .thenComparing(Entry::kind)
+                .thenComparing(Entry::resourcePath));
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (Entry entry : entries) {
+                writer.write(entry.roomKey());
+                writer.write('\t');
+                writer.write(entry.kind());
+                writer.write('\t');
+                writer.write(entry.resourcePath());
+                writer.write('\n');
+            }
+        }
+        System.out.println("Indexed " + entries.size() + " room clips into " + output);
+    }
+
+    /**
+     * Reads the manifest next to the rooms tree.
+     * Returns null when there is no manifest, it cannot be parsed, or it is older than the rooms
+     * directories it describes; the caller then scans the resources instead.
+     */
+    static List<Entry> read(Class<?> anchorClass, String roomsRoot) {
+        URL indexUrl = anchorClass.getResource(INDEX_PATH);
+        if (indexUrl == null) {
+            return null;
+        }
+        try {
+            if ("file".equals(indexUrl.getProtocol())) {
+                Path indexFile = Path.of(indexUrl.toURI());
+                List<Entry> entries = parse(mapFile(indexFile));
+                if (entries == null || isStale(indexFile, anchorClass.getResource(roomsRoot), entries)) {
+                    return null;
+                }
+                return entries;
+            }
+            // Inside a JAR the manifest is built together with the clips, so it cannot be stale.
+            try (InputStream in = indexUrl.openStream()) {
+                return parse(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(in.readAllBytes())));
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static CharBuffer mapFile(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StandardCharsets.UTF_8.decode(buffer);
+        }
+    }
+
+    private static List<Entry> parse(CharBuffer chars) {
+        String text = chars.toString();
+        int lineEnd = text.indexOf('\n');
+        if (lineEnd < 0 || !HEADER.equals(text.substring(0, lineEnd).trim())) {
+            return null;
+        }
+        List<Entry> entries = new ArrayList<>();
+        int lineStart = lineEnd + 1;
+        while (lineStart < text.length()) {
+            lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            int firstTab = text.indexOf('\t', lineStart);
+            int secondTab = firstTab < 0 ? -1 : text.indexOf('\t', firstTab + 1);
+            if (secondTab < 0 || secondTab >= lineEnd) {
+                return null;
+            }
+            String kind = text.substring(firstTab + 1, secondTab);
+            if (!KIND_NORMAL.equals(kind) && !KIND_JUMPSCARE.equals(kind) && !KIND_UNKNOWN.equals(kind)) {
+                // Throws IllegalArgumentException for unknown types, which invalidates the manifest.
+                RoomMediaLibrary.AnomalyType.valueOf(kind);
+            }
+            entries.add(new Entry(text.substring(lineStart, firstTab), kind, text.substring(secondTab + 1, lineEnd)));
+            lineStart = lineEnd + 1;
+        }
+        return entries;
+    }
+
+    /**
+     * Adding or removing a clip or a subdirectory touches the modification time of its parent
+     * directory, so comparing the rooms root, every directory that holds an indexed clip and each
+     * of their ancestors against the manifest is enough to detect drift without listing a single
+     * file. Directories that held no clips when the manifest was built are not tracked.
+     */
+    private static boolean isStale(Path indexFile, URL roomsRootUrl, List<Entry> entries)
+            throws IOException, URISyntaxException {
+        if (roomsRootUrl == null) {
+            return !entries.isEmpty();
+        }
+        if (!"file".equals(roomsRootUrl.getProtocol())) {
+            return false;
+        }
+        long indexModified = Files.getLastModifiedTime(indexFile).toMillis();
+        Path roomsRoot = Path.of(roomsRootUrl.toURI());
+        if (Files.getLastModifiedTime(roomsRoot).toMillis() > indexModified) {
+            return true;
+        }
+        Set<String> clipDirs = new HashSet<>();
+        for (Entry entry : entries) {
+            String path = entry.resourcePath();
+            String dir = path.substring(RoomMediaLibrary.ROOMS_ROOT.length(), path.lastIndexOf('/'));
+            // Also the room directory above e.g. "roomA/jumpscare", which may hold no clips itself.
+            while (clipDirs.add(dir)) {
+                int slash = dir.lastIndexOf('/');
+                if (slash < 0) {
+                    break;
+                }
+                dir = dir.substring(0, slash);
+            }
+        }
+        for (String clipDir : clipDirs) {
+            Path dir = roomsRoot.resolve(clipDir);
+            if (!Files.isDirectory(dir) || Files.getLastModifiedTime(dir).toMillis() > indexModified) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,21 +2,26 @@ package com.horrorgame.game;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 public class RoomMediaLibrary {
 
@@ -31,93 +36,194 @@ public class RoomMediaLibrary {
         AUDIO_DISTURBANCE
     }
 
-    private static final String ROOMS_ROOT = "/com/horrorgame/assets/images/rooms/";
+    static final String ROOMS_ROOT = "/com/horrorgame/assets/images/rooms/";
 
-    private final Map<String, RoomMedia> roomsByKey;
+    private static final AnomalyType[] TYPES = AnomalyType.values();
+    private static final String[] NO_PATHS = new String[0];
+
+    // Frozen tables: room id = position of the room key in sorted order.
+    private final List<String> roomKeys;
+    private final Map<String, Integer> roomIds;
+    private final Room[] rooms;
     private final Random random = new Random();
 
     private RoomMediaLibrary(Map<String, RoomMedia> roomsByKey) {
-        this.roomsByKey = roomsByKey;
+        String[] keys = roomsByKey.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        this.roomKeys = List.of(keys);
+        this.roomIds = new HashMap<>(keys.length * 2);
+        this.rooms = new Room[keys.length];
+        for (int id = 0; id < keys.length; id++) {
+            roomIds.put(keys[id], id);
+            rooms[id] = new Room(roomsByKey.get(keys[id]));
+        }
     }
 
     public static RoomMediaLibrary load(Class<?> anchorClass) {
-        List<String> mp4Resources = listResources(anchorClass, ROOMS_ROOT, ".mp4");
+        return load(anchorClass, null);
+    }
+
+    /**
+     * Loads the packaged rooms like {@link #load(Class)}, calling {@code onRoomDiscovered} on the
+     * loading thread with each room key as soon as its first clip is found, before the scan finishes.
+     */
+    public static RoomMediaLibrary load(Class<?> anchorClass, Consumer<String> onRoomDiscovered) {
         Map<String, RoomMedia> rooms = new HashMap<>();
-        for (String resourcePath : mp4Resources) {
+        List<RoomMediaIndex.Entry> indexed = RoomMediaIndex.read(anchorClass, ROOMS_ROOT);
+        if (indexed != null) {
+            for (RoomMediaIndex.Entry entry : indexed) {
+                register(rooms, entry.roomKey(), entry.kind(), entry.resourcePath(), onRoomDiscovered);
+            }
+            return new RoomMediaLibrary(rooms);
+        }
+
+        // No manifest (IDE run) or it no longer matches the rooms tree: scan and parse everything.
+        discoverResources(anchorClass, ROOMS_ROOT, ".mp4", resourcePath -> {
             ParsedResource parsed = ParsedResource.parse(resourcePath);
-            if (parsed == null) {
-                continue;
+            if (parsed != null) {
+                register(rooms, parsed.roomKey, parsed.kind(), resourcePath, onRoomDiscovered);
             }
-            RoomMedia room = rooms.computeIfAbsent(parsed.roomKey, RoomMedia::new);
-            if (parsed.isJumpscare) {
-                room.jumpscares.add(resourcePath);
+        });
+        return new RoomMediaLibrary(rooms);
+    }
+
+    /**
+     * Builds a library from known resource paths under the rooms root, e.g. synthetic
+     * room sets for headless simulation runs.
+     */
+    public static RoomMediaLibrary fromResources(Collection<String> resourcePaths) {
+        Map<String, RoomMedia> rooms = new HashMap<>();
+        for (String resourcePath : resourcePaths) {
+            ParsedResource parsed = ParsedResource.parse(resourcePath);
+            if (parsed == null) {
                 continue;
             }
-            if (parsed.isNormal) {
-                room.normals.add(resourcePath);
-                continue;
+            register(rooms, parsed.roomKey, parsed.kind(), resourcePath, null);
+        }
+        return new RoomMediaLibrary(rooms);
+    }
+
+    private static void register(Map<String, RoomMedia> rooms, String roomKey, String kind, String resourcePath,
+                                 Consumer<String> onRoomDiscovered) {
+        RoomMedia room = rooms.get(roomKey);
+        if (room == null) {
+            room = new RoomMedia(roomKey);
+            rooms.put(roomKey, room);
+            if (onRoomDiscovered != null) {
+                onRoomDiscovered.accept(roomKey);
             }
-            if (parsed.anomalyType != null) {
-                room.anomalies.computeIfAbsent(parsed.anomalyType, t -> new ArrayList<>()).add(resourcePath);
+        }
+        switch (kind) {
+            case RoomMediaIndex.KIND_JUMPSCARE -> room.jumpscares.add(resourcePath);
+            case RoomMediaIndex.KIND_NORMAL -> room.normals.add(resourcePath);
+            case RoomMediaIndex.KIND_UNKNOWN -> {
+                // Unrecognised anomaly clip: the room still exists but the clip is never played.
             }
+            default -> room.anomalies.computeIfAbsent(AnomalyType.valueOf(kind), t -> new ArrayList<>()).add(resourcePath);
         }
-        return new RoomMediaLibrary(rooms);
     }
 
+    /**
+     * Sorted room keys. The returned list is shared and unmodifiable; a key's position is its room id.
+     */
     public List<String> getRoomKeys() {
-        List<String> keys = new ArrayList<>(roomsByKey.keySet());
-        Collections.sort(keys);
-        return keys;
+        return roomKeys;
+    }
+
+    public int getRoomCount() {
+        return rooms.length;
+    }
+
+    /**
+     * Id of the room with the given key, or -1 if there is no such room.
+     */
+    public int getRoomId(String roomKey) {
+        Integer id = roomKey == null ? null : roomIds.get(roomKey);
+        return id == null ? -1 : id;
     }
 
     public String getRandomNormal(String roomKey) {
-        RoomMedia room = roomsByKey.get(roomKey);
-        if (room == null || room.normals.isEmpty()) {
-            return null;
-        }
-        return room.normals.get(random.nextInt(room.normals.size()));
+        return getRandomNormal(getRoomId(roomKey));
+    }
+
+    public String getRandomNormal(int roomId) {
+        return roomId < 0 ? null : pick(rooms[roomId].normals);
     }
 
     public String getRandomJumpscare(String roomKey) {
-        RoomMedia room = roomsByKey.get(roomKey);
-        if (room == null || room.jumpscares.isEmpty()) {
-            return null;
-        }
-        return room.jumpscares.get(random.nextInt(room.jumpscares.size()));
+        return getRandomJumpscare(getRoomId(roomKey));
+    }
+
+    public String getRandomJumpscare(int roomId) {
+        return roomId < 0 ? null : pick(rooms[roomId].jumpscares);
     }
 
     public String getRandomAnomaly(String roomKey, AnomalyType anomalyType) {
-        RoomMedia room = roomsByKey.get(roomKey);
-        if (room == null) {
-            return null;
-        }
-        List<String> list = room.anomalies.get(anomalyType);
-        if (list == null || list.isEmpty()) {
+        return getRandomAnomaly(getRoomId(roomKey), anomalyType);
+    }
+
+    public String getRandomAnomaly(int roomId, AnomalyType anomalyType) {
+        if (roomId < 0 || anomalyType == null) {
             return null;
         }
-        return list.get(random.nextInt(list.size()));
+        return pick(rooms[roomId].anomalyPaths[anomalyType.ordinal()]);
     }
 
+    /**
+     * Anomaly types the room has clips for, in declaration order. The returned list is shared and unmodifiable.
+     */
     public List<AnomalyType> getAvailableAnomalyTypes(String roomKey) {
-        RoomMedia room = roomsByKey.get(roomKey);
-        if (room == null) {
-            return List.of();
-        }
-        return new ArrayList<>(room.anomalies.keySet());
+        return getAvailableAnomalyTypes(getRoomId(roomKey));
+    }
+
+    public List<AnomalyType> getAvailableAnomalyTypes(int roomId) {
+        return roomId < 0 ? List.of() : rooms[roomId].anomalyTypes;
     }
 
+    private String pick(String[] paths) {
+        return paths.length == 0 ? null : paths[random.nextInt(paths.length)];
+    }
+
+    /**
+     * Mutable per-room collector used while a library is being built.
+     */
     private static final class RoomMedia {
         final String roomKey;
         final List<String> normals = new ArrayList<>();
         final List<String> jumpscares = new ArrayList<>();
-        final Map<AnomalyType, List<String>> anomalies = new HashMap<>();
+        final Map<AnomalyType, List<String>> anomalies = new EnumMap<>(AnomalyType.class);
 
         RoomMedia(String roomKey) {
             this.roomKey = roomKey;
         }
     }
 
-    private static final class ParsedResource {
+    /**
+     * Frozen media of one room.
+     */
+    private static final class Room {
+        final String[] normals;
+        final String[] jumpscares;
+        // Indexed by AnomalyType ordinal; empty for types without clips.
+        final String[][] anomalyPaths = new String[TYPES.length][];
+        final List<AnomalyType> anomalyTypes;
+
+        Room(RoomMedia media) {
+            normals = media.normals.toArray(NO_PATHS);
+            jumpscares = media.jumpscares.toArray(NO_PATHS);
+            List<AnomalyType> types = new ArrayList<>();
+            for (AnomalyType type : TYPES) {
+                List<String> paths = media.anomalies.get(type);
+                anomalyPaths[type.ordinal()] = paths == null ? NO_PATHS : paths.toArray(NO_PATHS);
+                if (paths != null && !paths.isEmpty()) {
+                    types.add(type);
+                }
+            }
+            anomalyTypes = List.copyOf(types);
+        }
+    }
+
+    static final class ParsedResource {
         final String roomKey;
         final boolean isJumpscare;
         final boolean isNormal;
@@ -130,6 +236,19 @@ public class RoomMediaLibrary {
             this.anomalyType = anomalyType;
         }
 
+        /**
+         * Manifest kind token: NORMAL, JUMPSCARE, the anomaly type name, or UNKNOWN.
+         */
+        String kind() {
+            if (isJumpscare) {
+                return RoomMediaIndex.KIND_JUMPSCARE;
+            }
+            if (isNormal) {
+                return RoomMediaIndex.KIND_NORMAL;
+            }
+            return anomalyType == null ? RoomMediaIndex.KIND_UNKNOWN : anomalyType.name();
+        }
+
         static ParsedResource parse(String resourcePath) {
             if (resourcePath == null) {
                 return null;
@@ -204,49 +323,58 @@ public class RoomMediaLibrary {
         }
     }
 
-    private static List<String> listResources(Class<?> anchorClass, String rootPath, String extensionLower) {
+    private static void discoverResources(Class<?> anchorClass, String rootPath, String extensionLower,
+                                          Consumer<String> onResource) {
         URL rootUrl = anchorClass.getResource(rootPath);
         if (rootUrl == null) {
-            return List.of();
+            return;
         }
         String protocol = rootUrl.getProtocol();
         if ("file".equals(protocol)) {
             try {
                 Path root = Path.of(rootUrl.toURI());
-                return listFromFileSystem(root, rootPath, extensionLower);
+                walkFileSystem(root, rootPath, extensionLower, onResource);
             } catch (URISyntaxException e) {
-                return List.of();
+                // Not a usable file URL: nothing to discover.
             }
+        } else if ("jar".equals(protocol)) {
+            discoverInJar(rootUrl, rootPath, extensionLower, onResource);
         }
-        if ("jar".equals(protocol)) {
-            return listFromJar(rootUrl, rootPath, extensionLower);
-        }
-        return List.of();
     }
 
-    private static List<String> listFromFileSystem(Path root, String rootPath, String extensionLower) {
-        try {
-            List<String> results = new ArrayList<>();
-            Files.walk(root).filter(Files::isRegularFile).forEach(path -> {
+    static List<String> listFromFileSystem(Path root, String rootPath, String extensionLower) {
+        List<String> results = new ArrayList<>();
+        walkFileSystem(root, rootPath, extensionLower, results::add);
+        return results;
+    }
+
+    private static void walkFileSystem(Path root, String rootPath, String extensionLower, Consumer<String> onResource) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
                 String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
                 if (!fileName.endsWith(extensionLower)) {
                     return;
                 }
                 String relative = root.relativize(path).toString().replace(File.separatorChar, '/');
-                results.add(rootPath + relative);
+                onResource.accept(rootPath + relative);
             });
-            return results;
-        } catch (IOException e) {
-            return List.of();
+        } catch (IOException | UncheckedIOException e) {
+            // Keep whatever was found before the error.
         }
     }
 
-    private static List<String> listFromJar(URL rootUrl, String rootPath, String extensionLower) {
+    private static void discoverInJar(URL rootUrl, String rootPath, String extensionLower, Consumer<String> onResource) {
+        String prefix = rootPath.startsWith("/") ? rootPath.substring(1) : rootPath;
         try {
             JarURLConnection connection = (JarURLConnection) rootUrl.openConnection();
+            URL jarFileUrl = connection.getJarFileURL();
+            if ("file".equals(jarFileUrl.getProtocol())
+                    && ZipCentralDirectory.scan(Path.of(jarFileUrl.toURI()), prefix, extensionLower, name -> onResource.accept("/" + name))) {
+                return;
+            }
+            // Nested or ZIP64 archive: let JarFile walk it.
             JarFile jar = connection.getJarFile();
-            String prefix = rootPath.startsWith("/") ? rootPath.substring(1) : rootPath;
-            List<String> results = new ArrayList<>();
+            String prefixLower = prefix.toLowerCase(Locale.ROOT);
             Enumeration<JarEntry> entries = jar.entries();
             while (entries.hasMoreElements()) {
                 JarEntry entry = entries.nextElement();
@@ -255,15 +383,13 @@ public class RoomMediaLibrary {
                     continue;
                 }
                 String lower = name.toLowerCase(Locale.ROOT);
-                if (!lower.startsWith(prefix.toLowerCase(Locale.ROOT)) || !lower.endsWith(extensionLower)) {
+                if (!lower.startsWith(prefixLower) || !lower.endsWith(extensionLower)) {
                     continue;
                 }
-                results.add("/" + name);
+                onResource.accept("/" + name);
             }
-            return results;
-        } catch (IOException e) {
-            return List.of();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            // Keep whatever was found before the error.
         }
     }
 }
-
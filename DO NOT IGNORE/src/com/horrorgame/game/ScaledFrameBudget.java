@@ -0,0 +1,38 @@
+package com.horrorgame.game;
+
+/**
+ * One memory budget for every cache of pre-scaled {@link AnimatedGif} frames (the Swing and the JavaFX
+ * menu backgrounds), so together they stay under a single cap.
+ * A GIF that does not fit keeps its frames at full size but only every n-th of them, each shown for the
+ * frames it stands in for: the animation gets choppier, but drawing stays a plain blit.
+ * Thread-safe.
+ */
+public final class ScaledFrameBudget {
+
+    public static final long MAX_BYTES = Long.getLong("horrorgame.menu.backgroundMegabytes", 96L) * 1024 * 1024;
+
+    private static long reservedBytes;
+
+    private ScaledFrameBudget() {
+    }
+
+    /**
+     * Reserves memory for {@code frameCount} frames of {@code frameBytes} each and returns the stride:
+     * keep frames 0, stride, 2 * stride, ... and show frame {@code index / stride} in place of
+     * {@code index}. The stride is 1 when everything fits; at least one frame is always kept.
+     */
+    public static synchronized int reserve(int frameCount, long frameBytes) {
+        long available = Math.max(0L, MAX_BYTES - reservedBytes);
+        int fitting = (int) Math.max(1L, Math.min(frameCount, available / Math.max(1L, frameBytes)));
+        int stride = (frameCount + fitting - 1) / fitting;
+        reservedBytes += keptFrames(frameCount, stride) * frameBytes;
+        return stride;
+    }
+
+    /**
+     * How many frames a GIF of {@code frameCount} frames keeps at the given stride.
+     */
+    public static int keptFrames(int frameCount, int stride) {
+        return (frameCount + stride - 1) / stride;
+    }
+}
@@ -3,11 +3,10 @@ package com.horrorgame.game;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
-import java.awt.Dimension;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
@@ -15,7 +14,8 @@ import javax.swing.SwingUtilities;
 
 /**
  * MP4 playback uses JavaFX if it is present on the classpath.
- * This class is implemented via reflection so the project compiles even without JavaFX.
+ * JavaFX is only reached through method handles bound once per JVM, so the project compiles even
+ * without JavaFX and playback and resize calls do no reflective lookups.
  */
 public class VideoBackgroundPanel extends JPanel {
 
@@ -23,30 +23,27 @@ public class VideoBackgroundPanel extends JPanel {
     private final boolean isJavaFxAvailable;
     private final Component fxHostComponent;
 
+    private final FxBindings fx;
     private Object mediaView;
     private Object mediaPlayer;
 
     public VideoBackgroundPanel() {
         setLayout(new BorderLayout());
-        isJavaFxAvailable = isJavaFxPresent();
+        fx = FxBindings.INSTANCE;
+        isJavaFxAvailable = fx != null;
         if (!isJavaFxAvailable) {
             fxHostComponent = createFallbackPanel();
             add(fxHostComponent, BorderLayout.CENTER);
             return;
         }
 
-        fxHostComponent = createJfxPanelInstance();
+        fxHostComponent = fx.newJfxPanel();
         add(fxHostComponent, BorderLayout.CENTER);
-        ensureJavaFxStarted();
-        runOnFxThread(this::initializeScene);
+        fx.startup();
+        fx.runLater(this::initializeScene);
 
-        addComponentListener(new ComponentAdapter() {
-            @Override
-            public void componentResized(ComponentEvent e) {
-                Dimension size = getSize();
-                runOnFxThread(() -> updateMediaViewSize(size.width, size.height));
-            }
-        });
+        // One FX update per frame, however many resize events a window drag produces.
+        addComponentListener(new ResizeCoalescer(fx::runLater, size -> updateMediaViewSize(size.width, size.height)));
     }
 
     public void playLoopedResource(String resourcePath) {
@@ -61,7 +58,7 @@ public class VideoBackgroundPanel extends JPanel {
         if (!isJavaFxAvailable) {
             return;
         }
-        runOnFxThread(() -> playResourceInternal(resourcePath, -1, null));
+        fx.runLater(() -> playResourceInternal(resourcePath, -1, null));
     }
 
     public void playOnceResource(String resourcePath, Runnable onFinished) {
@@ -78,7 +75,7 @@ public class VideoBackgroundPanel extends JPanel {
             }
             return;
         }
-        runOnFxThread(() -> playResourceInternal(resourcePath, 1, onFinished));
+        fx.runLater(() -> playResourceInternal(resourcePath, 1, onFinished));
     }
 
     public void stopPlayback() {
@@ -86,35 +83,27 @@ public class VideoBackgroundPanel extends JPanel {
         if (!isJavaFxAvailable) {
             return;
         }
-        runOnFxThread(() -> {
+        fx.runLater(() -> {
             if (mediaPlayer == null) {
                 return;
             }
-            invokeNoArgs(mediaPlayer, "stop");
-            invokeNoArgs(mediaPlayer, "dispose");
+            fx.disposePlayer(mediaPlayer);
             mediaPlayer = null;
             if (mediaView != null) {
-                invoke(mediaView, "setMediaPlayer", new Class[]{getJavaFxClass("javafx.scene.media.MediaPlayer")}, new Object[]{null});
+                fx.setMediaPlayer(mediaView, null);
             }
         });
     }
 
     private void initializeScene() {
-        Object root = newInstance(getJavaFxClass("javafx.scene.Group"), new Class[]{}, new Object[]{});
-        Object scene = newInstance(getJavaFxClass("javafx.scene.Scene"), new Class[]{getJavaFxClass("javafx.scene.Parent")}, new Object[]{root});
-
-        mediaView = newInstance(getJavaFxClass("javafx.scene.media.MediaView"), new Class[]{}, new Object[]{});
-        invoke(mediaView, "setPreserveRatio", new Class[]{boolean.class}, new Object[]{false});
+        mediaView = fx.newMediaView();
         updateMediaViewSize(getWidth(), getHeight());
 
         if (mediaPlayer != null) {
-            invoke(mediaView, "setMediaPlayer", new Class[]{getJavaFxClass("javafx.scene.media.MediaPlayer")}, new Object[]{mediaPlayer});
+            fx.setMediaPlayer(mediaView, mediaPlayer);
         }
 
-        Object children = invoke(root, "getChildren", new Class[]{}, new Object[]{});
-        invoke(children, "add", new Class[]{Object.class}, new Object[]{mediaView});
-
-        invoke(fxHostComponent, "setScene", new Class[]{getJavaFxClass("javafx.scene.Scene")}, new Object[]{scene});
+        fx.showInPanel(fxHostComponent, mediaView);
     }
 
     private void playResourceInternal(String resourcePath, int cycleCount, Runnable onFinished) {
@@ -122,76 +111,24 @@ public class VideoBackgroundPanel extends JPanel {
         if (resourceUrl == null) {
             return;
         }
-        String uri = resourceUrl.toExternalForm();
-        Object media = newInstance(getJavaFxClass("javafx.scene.media.Media"), new Class[]{String.class}, new Object[]{uri});
-        Object newPlayer = newInstance(getJavaFxClass("javafx.scene.media.MediaPlayer"), new Class[]{getJavaFxClass("javafx.scene.media.Media")}, new Object[]{media});
-
-        invoke(newPlayer, "setCycleCount", new Class[]{int.class}, new Object[]{cycleCount});
-        if (cycleCount != -1 && onFinished != null) {
-            invoke(newPlayer, "setOnEndOfMedia", new Class[]{Runnable.class}, new Object[]{(Runnable) () -> SwingUtilities.invokeLater(onFinished)});
-        }
+        Runnable onEnd = cycleCount != -1 && onFinished != null ? () -> SwingUtilities.invokeLater(onFinished) : null;
+        Object newPlayer = fx.newMediaPlayer(resourceUrl.toExternalForm(), cycleCount, onEnd);
 
         if (mediaPlayer != null) {
-            invokeNoArgs(mediaPlayer, "stop");
-            invokeNoArgs(mediaPlayer, "dispose");
+            fx.disposePlayer(mediaPlayer);
         }
         mediaPlayer = newPlayer;
         if (mediaView != null) {
-            invoke(mediaView, "setMediaPlayer", new Class[]{getJavaFxClass("javafx.scene.media.MediaPlayer")}, new Object[]{mediaPlayer});
+            fx.setMediaPlayer(mediaView, mediaPlayer);
         }
-        invokeNoArgs(mediaPlayer, "play");
+        fx.play(mediaPlayer);
     }
 
     private void updateMediaViewSize(int width, int height) {
         if (mediaView == null) {
             return;
         }
-        invoke(mediaView, "setFitWidth", new Class[]{double.class}, new Object[]{(double) width});
-        invoke(mediaView, "setFitHeight", new Class[]{double.class}, new Object[]{(double) height});
-    }
-
-    private static synchronized void ensureJavaFxStarted() {
-        try {
-            Class<?> platform = Class.forName("javafx.application.Platform");
-            Method startup = platform.getMethod("startup", Runnable.class);
-            startup.invoke(null, (Runnable) () -> {});
-        } catch (ClassNotFoundException ignored) {
-        } catch (NoSuchMethodException | IllegalAccessException ignored) {
-        } catch (InvocationTargetException ignored) {
-        } catch (IllegalStateException ignored) {
-        }
-    }
-
-    private static void runOnFxThread(Runnable runnable) {
-        try {
-            Class<?> platform = Class.forName("javafx.application.Platform");
-            Method runLater = platform.getMethod("runLater", Runnable.class);
-            runLater.invoke(null, runnable);
-        } catch (ClassNotFoundException ignored) {
-        } catch (NoSuchMethodException | IllegalAccessException ignored) {
-        } catch (InvocationTargetException ignored) {
-        }
-    }
-
-    private static boolean isJavaFxPresent() {
-        try {
-            Class.forName("javafx.application.Platform");
-            Class.forName("javafx.embed.swing.JFXPanel");
-            Class.forName("javafx.scene.media.MediaPlayer");
-            return true;
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-    }
-
-    private static Component createJfxPanelInstance() {
-        try {
-            Class<?> clazz = Class.forName("javafx.embed.swing.JFXPanel");
-            Object instance = clazz.getConstructor().newInstance();
-            return (Component) instance;
-        } catch (ReflectiveOperationException e) {
-            return createFallbackPanel();
-        }
+        fx.setFitSize(mediaView, width, height);
     }
 
     private static Component createFallbackPanel() {
@@ -203,38 +140,205 @@ public class VideoBackgroundPanel extends JPanel {
         return panel;
     }
 
-    private static Class<?> getJavaFxClass(String name) {
-        try {
-            return Class.forName(name);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalStateException(e);
+    /**
+     * The JavaFX calls this panel makes, resolved to method handles once when the class is first used
+     * (lazy holder), so playback and resize events pay no reflective lookup.
+     * {@link #INSTANCE} is null when JavaFX (with the swing and media modules) is not on the classpath.
+     */
+    private static final class FxBindings {
+
+        static final FxBindings INSTANCE = bind();
+
+        private final MethodHandle startup;
+        private final MethodHandle runLater;
+        private final MethodHandle newJfxPanel;
+        private final MethodHandle setScene;
+        private final MethodHandle newGroup;
+        private final MethodHandle getChildren;
+        private final MethodHandle newScene;
+        private final MethodHandle newMediaView;
+        private final MethodHandle setPreserveRatio;
+        private final MethodHandle setFitWidth;
+        private final MethodHandle setFitHeight;
+        private final MethodHandle setMediaPlayer;
+        private final MethodHandle newMedia;
+        private final MethodHandle newMediaPlayer;
+        private final MethodHandle setCycleCount;
+        private final MethodHandle setOnEndOfMedia;
+        private final MethodHandle play;
+        private final MethodHandle stop;
+        private final MethodHandle dispose;
+
+        private static FxBindings bind() {
+            try {
+                return new FxBindings(MethodHandles.publicLookup());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
         }
-    }
 
-    private static Object newInstance(Class<?> clazz, Class<?>[] paramTypes, Object[] args) {
-        try {
-            return clazz.getConstructor(paramTypes).newInstance(args);
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException(e);
+        private FxBindings(MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+            Class<?> platform = fxClass("javafx.application.Platform");
+            Class<?> jfxPanel = fxClass("javafx.embed.swing.JFXPanel");
+            Class<?> scene = fxClass("javafx.scene.Scene");
+            Class<?> parent = fxClass("javafx.scene.Parent");
+            Class<?> group = fxClass("javafx.scene.Group");
+            Class<?> mediaView = fxClass("javafx.scene.media.MediaView");
+            Class<?> media = fxClass("javafx.scene.media.Media");
+            Class<?> mediaPlayer = fxClass("javafx.scene.media.MediaPlayer");
+
+            // Every handle is adapted to Object-typed parameters so call sites can use invokeExact.
+            startup = lookup.findStatic(platform, "startup", MethodType.methodType(void.class, Runnable.class));
+            runLater = lookup.findStatic(platform, "runLater", MethodType.methodType(void.class, Runnable.class));
+            newJfxPanel = lookup.findConstructor(jfxPanel, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Component.class));
+            setScene = virtual(lookup, jfxPanel, "setScene", scene);
+            newGroup = lookup.findConstructor(group, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            getChildren = lookup.findVirtual(group, "getChildren", MethodType.methodType(fxClass("javafx.collections.ObservableList")))
+                    .asType(MethodType.methodType(List.class, Object.class));
+            newScene = lookup.findConstructor(scene, MethodType.methodType(void.class, parent))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            newMediaView = lookup.findConstructor(mediaView, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            setPreserveRatio = virtual(lookup, mediaView, "setPreserveRatio", boolean.class);
+            setFitWidth = virtual(lookup, mediaView, "setFitWidth", double.class);
+            setFitHeight = virtual(lookup, mediaView, "setFitHeight", double.class);
+            setMediaPlayer = virtual(lookup, mediaView, "setMediaPlayer", mediaPlayer);
+            newMedia = lookup.findConstructor(media, MethodType.methodType(void.class, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+            newMediaPlayer = lookup.findConstructor(mediaPlayer, MethodType.methodType(void.class, media))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            setCycleCount = virtual(lookup, mediaPlayer, "setCycleCount", int.class);
+            setOnEndOfMedia = virtual(lookup, mediaPlayer, "setOnEndOfMedia", Runnable.class);
+            play = virtual(lookup, mediaPlayer, "play");
+            stop = virtual(lookup, mediaPlayer, "stop");
+            dispose = virtual(lookup, mediaPlayer, "dispose");
         }
-    }
 
-    private static Object invoke(Object target, String methodName, Class<?>[] paramTypes, Object[] args) {
-        if (target == null) {
-            return null;
+        private static Class<?> fxClass(String name) throws ClassNotFoundException {
+            // Resolve without initializing; JavaFX classes only start their toolkit when actually used.
+            return Class.forName(name, false, FxBindings.class.getClassLoader());
         }
-        try {
-            Method method = target.getClass().getMethod(methodName, paramTypes);
-            return method.invoke(target, args);
-        } catch (NoSuchMethodException | IllegalAccessException e) {
-            return null;
-        } catch (InvocationTargetException e) {
-            return null;
+
+        private static MethodHandle virtual(MethodHandles.Lookup lookup, Class<?> owner, String name, Class<?>... params)
+                throws ReflectiveOperationException {
+            MethodHandle handle = lookup.findVirtual(owner, name, MethodType.methodType(void.class, params));
+            Class<?>[] erased = params.clone();
+            for (int i = 0; i < erased.length; i++) {
+                if (!erased[i].isPrimitive()) {
+                    erased[i] = Object.class;
+                }
+            }
+            return handle.asType(MethodType.methodType(void.class, Object.class, erased));
+        }
+
+        void startup() {
+            try {
+                startup.invokeExact((Runnable) () -> {});
+            } catch (IllegalStateException ignored) {
+                // Toolkit already running.
+            } catch (Throwable e) {
+                throw failure(e);
+            }
         }
-    }
 
-    private static void invokeNoArgs(Object target, String methodName) {
-        invoke(target, methodName, new Class[]{}, new Object[]{});
+        void runLater(Runnable runnable) {
+            try {
+                runLater.invokeExact(runnable);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        Component newJfxPanel() {
+            try {
+                return (Component) newJfxPanel.invokeExact();
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        Object newMediaView() {
+            try {
+                Object view = (Object) newMediaView.invokeExact();
+                setPreserveRatio.invokeExact(view, false);
+                return view;
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        /**
+         * Puts the media view alone in a new scene shown by the given JFXPanel.
+         */
+        @SuppressWarnings("unchecked")
+        void showInPanel(Component panel, Object mediaView) {
+            try {
+                Object root = (Object) newGroup.invokeExact();
+                ((List<Object>) (List<?>) getChildren.invokeExact(root)).add(mediaView);
+                Object scene = (Object) newScene.invokeExact(root);
+                setScene.invokeExact((Object) panel, scene);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        void setFitSize(Object mediaView, double width, double height) {
+            try {
+                setFitWidth.invokeExact(mediaView, width);
+                setFitHeight.invokeExact(mediaView, height);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        void setMediaPlayer(Object mediaView, Object player) {
+            try {
+                setMediaPlayer.invokeExact(mediaView, player);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        Object newMediaPlayer(String uri, int cycleCount, Runnable onEndOfMedia) {
+            try {
+                Object player = (Object) newMediaPlayer.invokeExact((Object) newMedia.invokeExact(uri));
+                setCycleCount.invokeExact(player, cycleCount);
+                if (onEndOfMedia != null) {
+                    setOnEndOfMedia.invokeExact(player, (Object) onEndOfMedia);
+                }
+                return player;
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        void play(Object player) {
+            try {
+                play.invokeExact(player);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        void disposePlayer(Object player) {
+            try {
+                stop.invokeExact(player);
+                dispose.invokeExact(player);
+            } catch (Throwable e) {
+                throw failure(e);
+            }
+        }
+
+        private static RuntimeException failure(Throwable e) {
+            if (e instanceof RuntimeException runtime) {
+                return runtime;
+            }
+            if (e instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(e);
+        }
     }
 }
-
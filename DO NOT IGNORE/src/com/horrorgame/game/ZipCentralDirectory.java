@@ -0,0 +1,119 @@
+package com.horrorgame.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Minimal reader for the central directory of a ZIP/JAR file, used to find room clips in a large
+ * asset JAR without building a {@code JarEntry} (and a lower-cased copy of its name) per entry.
+ * The directory is memory-mapped and entry names are compared as raw bytes; a {@code String} is
+ * only created for names that match, and matches are handed out as soon as they are read.
+ */
+final class ZipCentralDirectory {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ENTRY_SIGNATURE = 0x02014b50;
+    private static final int END_RECORD_SIZE = 22;
+    private static final int ENTRY_HEADER_SIZE = 46;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+    private ZipCentralDirectory() {
+    }
+
+    /**
+     * Calls {@code onMatch} with the name of every file entry that starts with {@code prefix} and ends
+     * with {@code suffix}, ignoring ASCII case, in directory order.
+     * Returns false without reporting anything if the file is not a plain (non-ZIP64) ZIP archive,
+     * so the caller can fall back to {@link java.util.jar.JarFile}.
+     */
+    static boolean scan(Path zipFile, String prefix, String suffix, Consumer<String> onMatch) throws IOException {
+        try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < END_RECORD_SIZE) {
+                return false;
+            }
+
+            // The end record sits in the last 22 bytes plus an optional archive comment.
+            int tailLength = (int) Math.min(fileSize, END_RECORD_SIZE + MAX_COMMENT_LENGTH);
+            ByteBuffer tail = ByteBuffer.allocate(tailLength).order(ByteOrder.LITTLE_ENDIAN);
+            long tailStart = fileSize - tailLength;
+            while (tail.hasRemaining()) {
+                if (channel.read(tail, tailStart + tail.position()) < 0) {
+                    return false;
+                }
+            }
+            int end = -1;
+            for (int i = tailLength - END_RECORD_SIZE; i >= 0; i--) {
+                if (tail.getInt(i) == END_SIGNATURE) {
+                    end = i;
+                    break;
+                }
+            }
+            if (end < 0) {
+                return false;
+            }
+            int entryCount = tail.getShort(end + 10) & 0xFFFF;
+            long directorySize = tail.getInt(end + 12) & ZIP64_MARKER;
+            long directoryOffset = tail.getInt(end + 16) & ZIP64_MARKER;
+            if (entryCount == 0xFFFF || directorySize == ZIP64_MARKER || directoryOffset == ZIP64_MARKER
+                    || directoryOffset + directorySize > fileSize) {
+                return false;
+            }
+
+            MappedByteBuffer directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directorySize);
+            directory.order(ByteOrder.LITTLE_ENDIAN);
+            byte[] prefixBytes = prefix.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+            byte[] suffixBytes = suffix.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+
+            int position = 0;
+            int limit = (int) directorySize;
+            while (position + ENTRY_HEADER_SIZE <= limit && directory.getInt(position) == ENTRY_SIGNATURE) {
+                int nameLength = directory.getShort(position + 28) & 0xFFFF;
+                int extraLength = directory.getShort(position + 30) & 0xFFFF;
+                int commentLength = directory.getShort(position + 32) & 0xFFFF;
+                int nameStart = position + ENTRY_HEADER_SIZE;
+                if (nameStart + nameLength > limit) {
+                    break;
+                }
+                if (matches(directory, nameStart, nameLength, prefixBytes, suffixBytes)) {
+                    byte[] name = new byte[nameLength];
+                    directory.get(nameStart, name);
+                    onMatch.accept(new String(name, StandardCharsets.UTF_8));
+                }
+                position = nameStart + nameLength + extraLength + commentLength;
+            }
+            return true;
+        }
+    }
+
+    private static boolean matches(ByteBuffer directory, int nameStart, int nameLength, byte[] prefix, byte[] suffix) {
+        if (nameLength < prefix.length + suffix.length || directory.get(nameStart + nameLength - 1) == '/') {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (lowerAscii(directory.get(nameStart + i)) != prefix[i]) {
+                return false;
+            }
+        }
+        int suffixStart = nameStart + nameLength - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (lowerAscii(directory.get(suffixStart + i)) != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte lowerAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+}
@@ -0,0 +1,227 @@
+package com.horrorgame.menu;
+
+import com.horrorgame.game.AnimatedGif;
+import com.horrorgame.game.ScaledFrameBudget;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.event.HierarchyEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Process-wide cache of the animated menu backgrounds, keyed by resource and target size.
+ * Each GIF is decoded once, on a background thread, and its frames are pre-scaled into screen-compatible
+ * images, so painting a background is a plain blit and panels showing the same GIF (or a recreated panel)
+ * share the frames. Frames count against the shared {@link ScaledFrameBudget}.
+ * A single Swing timer repaints the showing panels whose background moved on to a new frame; it only
+ * runs while at least one of them is showing.
+ * EDT only.
+ */
+final class BackgroundImageCache {
+
+    private static final int TICK_MILLIS = 20;
+
+    private static final Map<Key, Background> cache = new HashMap<>();
+    private static final List<Animation> animations = new ArrayList<>();
+    private static final long startMillis = System.currentTimeMillis();
+    private static final Timer timer = new Timer(TICK_MILLIS, e -> tick());
+    private static final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "menu-background-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Key(String resourcePath, int width, int height) {}
+
+    private BackgroundImageCache() {
+    }
+
+    /**
+     * The background for the given GIF, scaled to the screen, animating on {@code panel} while it is shown.
+     * It draws nothing until decoding finishes, then the panel is repainted.
+     * Returns null if the resource is missing.
+     */
+    static Background attach(JComponent panel, String resourcePath) {
+        Background background = get(resourcePath, Toolkit.getDefaultToolkit().getScreenSize());
+        if (background != null) {
+            animations.add(new Animation(panel, background));
+            // Fires on addNotify/removeNotify and when a CardLayout shows or hides the panel.
+            panel.addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                    updateTimer();
+                }
+            });
+        }
+        return background;
+    }
+
+    private static Background get(String resourcePath, Dimension size) {
+        Key key = new Key(resourcePath, size.width, size.height);
+        if (cache.containsKey(key)) {
+            return cache.get(key);
+        }
+        URL resource = BackgroundImageCache.class.getResource(resourcePath);
+        Background background = resource == null ? null : new Background();
+        // Missing resources are cached too, so a missing GIF is only looked up once.
+        cache.put(key, background);
+        if (background != null) {
+            loader.execute(() -> load(background, resource, resourcePath, size));
+        }
+        return background;
+    }
+
+    private static void load(Background background, URL resource, String resourcePath, Dimension size) {
+        try {
+            AnimatedGif gif = AnimatedGif.read(resource);
+            int stride = ScaledFrameBudget.reserve(gif.getFrameCount(), (long) size.width * size.height * 4);
+            int transparency = gif.isOpaque() ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+            BufferedImage[] frames = new BufferedImage[ScaledFrameBudget.keptFrames(gif.getFrameCount(), stride)];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = render(gif.getFrame(i * stride), size.width, size.height, transparency);
+            }
+            AnimatedGif.Timing timing = gif.getTiming();
+            SwingUtilities.invokeLater(() -> loaded(background, timing, frames, stride));
+        } catch (IOException e) {
+            System.err.println("Failed to load background: " + resourcePath);
+            e.printStackTrace();
+        }
+    }
+
+    private static void loaded(Background background, AnimatedGif.Timing timing, BufferedImage[] frames, int stride) {
+        background.timing = timing;
+        background.frames = frames;
+        background.stride = stride;
+        for (Animation animation : animations) {
+            JComponent panel = animation.panel.get();
+            if (animation.background == background && panel != null) {
+                panel.repaint();
+            }
+        }
+        updateTimer();
+    }
+
+    private static BufferedImage render(BufferedImage source, int width, int height, int transparency) {
+        BufferedImage target = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                : compatibleConfiguration().createCompatibleImage(width, height, transparency);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static GraphicsConfiguration compatibleConfiguration() {
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    private static void updateTimer() {
+        boolean needed = false;
+        Iterator<Animation> it = animations.iterator();
+        while (it.hasNext()) {
+            Animation animation = it.next();
+            JComponent panel = animation.panel.get();
+            if (panel == null) {
+                it.remove();
+            } else if (panel.isShowing() && animation.background.isAnimated()) {
+                needed = true;
+            }
+        }
+        if (needed) {
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    private static void tick() {
+        long elapsed = System.currentTimeMillis() - startMillis;
+        boolean anyShowing = false;
+        for (Animation animation : animations) {
+            JComponent panel = animation.panel.get();
+            if (panel == null || !panel.isShowing() || !animation.background.isAnimated()) {
+                continue;
+            }
+            anyShowing = true;
+            int frame = animation.background.frameAt(elapsed);
+            if (frame != animation.lastFrame) {
+                animation.lastFrame = frame;
+                panel.repaint();
+            }
+        }
+        if (!anyShowing) {
+            updateTimer();
+        }
+    }
+
+    /**
+     * One decoded, pre-scaled background.
+     */
+    static final class Background {
+        // Set on the EDT once decoding has finished; frames is null until then.
+        private AnimatedGif.Timing timing;
+        private BufferedImage[] frames;
+        // Over the budget only every stride-th frame is kept, see ScaledFrameBudget.
+        private int stride = 1;
+
+        private Background() {
+        }
+
+        private boolean isAnimated() {
+            return frames != null && frames.length > 1;
+        }
+
+        private int frameAt(long elapsedMillis) {
+            return timing.frameAt(elapsedMillis) / stride;
+        }
+
+        /**
+         * Draws the current frame over {@code width x height}; a plain blit when that is the cached size.
+         * Draws nothing while the GIF is still being decoded.
+         */
+        void paint(Graphics g, int width, int height) {
+            if (frames == null) {
+                return;
+            }
+            BufferedImage frame = frames[frameAt(System.currentTimeMillis() - startMillis)];
+            if (frame.getWidth() == width && frame.getHeight() == height) {
+                g.drawImage(frame, 0, 0, null);
+            } else {
+                g.drawImage(frame, 0, 0, width, height, null);
+            }
+        }
+    }
+
+    private static final class Animation {
+        // Weak, so panels that are replaced (like the instructions screen) can be collected.
+        final WeakReference<JComponent> panel;
+        final Background background;
+        int lastFrame = -1;
+
+        Animation(JComponent panel, Background background) {
+            this.panel = new WeakReference<>(panel);
+            this.background = background;
+        }
+    }
+}
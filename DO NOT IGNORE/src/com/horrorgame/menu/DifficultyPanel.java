@@ -9,7 +9,6 @@ import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.awt.Image;
 import java.awt.Toolkit;
 import java.awt.Graphics;
 import javax.swing.BorderFactory;
@@ -20,18 +19,13 @@ import javax.swing.SwingConstants;
 
 public class DifficultyPanel extends JPanel {
 
-    private Image backgroundGif;
+    private final BackgroundImageCache.Background background;
 
     public DifficultyPanel(GameFrame frame) {
         setBackground(Color.BLACK);
         setLayout(new BorderLayout());
 
-        java.net.URL bgUrl = getClass().getResource("/com/horrorgame/assets/images/difficultyscreen.gif");
-        if (bgUrl != null) {
-            backgroundGif = new javax.swing.ImageIcon(bgUrl).getImage();
-        } else {
-            backgroundGif = null;
-        }
+        background = BackgroundImageCache.attach(this, "/com/horrorgame/assets/images/difficultyscreen.gif");
 
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
         int titleSize = screenSize.width / 18;
@@ -121,8 +115,8 @@ public class DifficultyPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        if (backgroundGif != null) {
-            g.drawImage(backgroundGif, 0, 0, getWidth(), getHeight(), this);
+        if (background != null) {
+            background.paint(g, getWidth(), getHeight());
         }
     }
 }
@@ -22,7 +22,7 @@ public class InstructionsPanel extends JPanel {
 
     private final GameFrame frame;
     private final Difficulty difficulty;
-    private java.awt.Image backgroundGif;
+    private final BackgroundImageCache.Background background;
 
     public InstructionsPanel(GameFrame frame, Difficulty difficulty) {
         this.frame = frame;
@@ -30,10 +30,7 @@ public class InstructionsPanel extends JPanel {
         setLayout(new BorderLayout());
         setBackground(Color.BLACK);
 
-        java.net.URL bgUrl = getClass().getResource("/com/horrorgame/assets/images/instructions.gif");
-        if (bgUrl != null) {
-            backgroundGif = new javax.swing.ImageIcon(bgUrl).getImage();
-        }
+        background = BackgroundImageCache.attach(this, "/com/horrorgame/assets/images/instructions.gif");
 
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
 
@@ -130,8 +127,8 @@ public class InstructionsPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        if (backgroundGif != null) {
-            g.drawImage(backgroundGif, 0, 0, getWidth(), getHeight(), this);
+        if (background != null) {
+            background.paint(g, getWidth(), getHeight());
         }
     }
 }
@@ -9,11 +9,15 @@ import javax.swing.*;
 
 public class MainMenuPanel extends JPanel {
 
+    private static final int GLITCH_BASELINE = 200;
+    private static final Color GLITCH_COLOR = new Color(255, 0, 0, 120);
+
     private Random random = new Random();
     private JLabel title;
     private int glitchOffsetX = 0;
     private int glitchOffsetY = 0;
-    private Image backgroundGif;
+    private final BackgroundImageCache.Background background;
+    private final NoiseTexture noise;
 
 
     public MainMenuPanel(GameFrame frame) {
@@ -21,11 +25,10 @@ public class MainMenuPanel extends JPanel {
         //setBackground(Color.BLACK);
         setLayout(new BorderLayout());
 
-        backgroundGif = new ImageIcon(
-        getClass().getResource("/com/horrorgame/assets/images/homescreen.gif")
-    ).getImage();
+        background = BackgroundImageCache.attach(this, "/com/horrorgame/assets/images/homescreen.gif");
 
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+        noise = new NoiseTexture(3000, screenSize, random);
 
         // 🎵 Start menu background music
         SoundManager.playLoop("/com/horrorgame/assets/audio/menu_music.wav");
@@ -66,6 +69,7 @@ public class MainMenuPanel extends JPanel {
             float alpha = 0.7f + random.nextFloat() * 0.3f;
             title.setForeground(new Color(1f, 0f, 0f, alpha));
 
+            boolean wasGlitching = glitchOffsetX != 0 || glitchOffsetY != 0;
             if (random.nextDouble() > 0.8) {
                 glitchOffsetX = random.nextInt(6) - 3;
                 glitchOffsetY = random.nextInt(6) - 3;
@@ -74,12 +78,24 @@ public class MainMenuPanel extends JPanel {
                 glitchOffsetY = 0;
             }
 
-            repaint();
+            // The label repaints itself for the flicker; only the band with the glitch copy is redrawn here.
+            if (wasGlitching || glitchOffsetX != 0 || glitchOffsetY != 0) {
+                repaintGlitchBand();
+            }
         });
         glitchTimer.start();
 
         // 🎛 Noise Refresh
-        Timer noiseTimer = new Timer(60, e -> repaint());
+        // A full repaint on purpose: every frame moves thousands of dots spread over the whole panel,
+        // so the changed area is the whole panel (RepaintManager would merge per-dot rects into it anyway).
+        // What keeps it cheap is the paint itself: one background blit plus a few noise tile blits.
+        Timer noiseTimer = new Timer(60, e -> {
+            if (!isShowing()) {
+                return;
+            }
+            noise.advance();
+            repaint();
+        });
         noiseTimer.start();
     }
 
@@ -108,6 +124,12 @@ public class MainMenuPanel extends JPanel {
         });
     }
 
+    private void repaintGlitchBand() {
+        FontMetrics fm = getFontMetrics(title.getFont());
+        int top = GLITCH_BASELINE - fm.getAscent() - 3;
+        repaint(0, top, getWidth(), fm.getAscent() + fm.getDescent() + 6);
+    }
+
     // 🎨 Paint Noise + Glitch Effect
     @Override
     protected void paintComponent(Graphics g) {
@@ -115,29 +137,23 @@ public class MainMenuPanel extends JPanel {
 
         Graphics2D g2 = (Graphics2D) g;
 
-        if (backgroundGif != null) {
-        g2.drawImage(backgroundGif, 0, 0, getWidth(), getHeight(), this);
+        if (background != null) {
+            background.paint(g2, getWidth(), getHeight());
         }
 
         // 🎛 Static Noise
-        for (int i = 0; i < 3000; i++) {
-            int x = random.nextInt(getWidth());
-            int y = random.nextInt(getHeight());
-            int alpha = random.nextInt(40);
-            g2.setColor(new Color(255, 255, 255, alpha));
-            g2.fillRect(x, y, 1, 1);
-        }
+        noise.paint(g2, getWidth(), getHeight());
 
         // ⚡ Glitch Draw
         if (glitchOffsetX != 0 || glitchOffsetY != 0) {
             g2.setFont(title.getFont());
-            g2.setColor(new Color(255, 0, 0, 120));
+            g2.setColor(GLITCH_COLOR);
             FontMetrics fm = g2.getFontMetrics();
 
             String text = title.getText();
             int textWidth = fm.stringWidth(text);
             int x = (getWidth() - textWidth) / 2 + glitchOffsetX;
-            int y = 200 + glitchOffsetY;
+            int y = GLITCH_BASELINE + glitchOffsetY;
 
             g2.drawString(text, x, y);
         }
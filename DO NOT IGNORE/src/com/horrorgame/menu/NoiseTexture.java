@@ -0,0 +1,83 @@
+package com.horrorgame.menu;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * Static noise for the menu background, rendered once into a few translucent tiles that are then cycled.
+ * Painting a frame is a handful of image blits instead of thousands of {@code fillRect} calls, and the
+ * tiles are screen-compatible images, so Java2D can keep them in video memory.
+ */
+final class NoiseTexture {
+
+    private static final int TILE_SIZE = 256;
+    private static final int FRAME_COUNT = 6;
+    private static final int MAX_ALPHA = 40;
+
+    private final BufferedImage[] tiles = new BufferedImage[FRAME_COUNT];
+    private final int[] offsetX = new int[FRAME_COUNT];
+    private final int[] offsetY = new int[FRAME_COUNT];
+    private int frame;
+
+    /**
+     * @param dotsPerScreen how many noise dots a full screen of the given size should show
+     */
+    NoiseTexture(int dotsPerScreen, Dimension screenSize, Random random) {
+        long screenArea = Math.max(1L, (long) screenSize.width * screenSize.height);
+        int dotsPerTile = (int) Math.max(1, Math.round((double) dotsPerScreen * TILE_SIZE * TILE_SIZE / screenArea));
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            tiles[i] = renderTile(dotsPerTile, random);
+            // Start each frame's tiling somewhere else so the repeat is not visible.
+            offsetX[i] = random.nextInt(TILE_SIZE);
+            offsetY[i] = random.nextInt(TILE_SIZE);
+        }
+    }
+
+    /**
+     * Moves on to the next pre-rendered frame.
+     */
+    void advance() {
+        frame = (frame + 1) % FRAME_COUNT;
+    }
+
+    /**
+     * Tiles the current frame over {@code width x height}; only tiles inside the clip are drawn.
+     */
+    void paint(Graphics2D g, int width, int height) {
+        BufferedImage tile = tiles[frame];
+        for (int y = -offsetY[frame]; y < height; y += TILE_SIZE) {
+            for (int x = -offsetX[frame]; x < width; x += TILE_SIZE) {
+                if (g.hitClip(x, y, TILE_SIZE, TILE_SIZE)) {
+                    g.drawImage(tile, x, y, null);
+                }
+            }
+        }
+    }
+
+    private static BufferedImage renderTile(int dots, Random random) {
+        BufferedImage pixels = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < dots; i++) {
+            int alpha = random.nextInt(MAX_ALPHA);
+            pixels.setRGB(random.nextInt(TILE_SIZE), random.nextInt(TILE_SIZE), (alpha << 24) | 0xFFFFFF);
+        }
+        if (GraphicsEnvironment.isHeadless()) {
+            return pixels;
+        }
+
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        BufferedImage compatible = config.createCompatibleImage(TILE_SIZE, TILE_SIZE, Transparency.TRANSLUCENT);
+        Graphics2D g = compatible.createGraphics();
+        try {
+            g.drawImage(pixels, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return compatible;
+    }
+}